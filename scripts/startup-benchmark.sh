@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+# Time-to-first-request and RSS of the employee API per startup mode.
+#
+#   ./mvnw -Pcds package -DskipTests            # jvm, jvm-lazy and cds modes (target/app)
+#   ./mvnw -Pnative native:compile -DskipTests  # native mode (target/spring-boot-testing), optional
+#   scripts/startup-benchmark.sh [runs] [modes...]
+#
+# Modes whose artifact is missing are skipped. Results are appended to target/startup-results.csv
+# as mode,run,time_to_first_request_ms,rss_kb. RSS is read from /proc, so this needs Linux.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+shift || true
+MODES=("$@")
+if [ ${#MODES[@]} -eq 0 ]; then
+	MODES=(jvm jvm-lazy cds native)
+fi
+
+PORT=${PORT:-18080}
+URL="http://localhost:${PORT}/api/employees?size=1"
+APP_DIR=target/app
+JAR=$(ls "${APP_DIR}"/spring-boot-testing-*.jar 2>/dev/null | head -1 || true)
+NATIVE=target/spring-boot-testing
+RESULTS=target/startup-results.csv
+APP_ARGS=(--server.port="${PORT}" --spring.jpa.show-sql=false)
+
+command_for() {
+	case "$1" in
+		jvm) [ -n "${JAR}" ] && echo "java -jar ${JAR##*/}" ;;
+		jvm-lazy) [ -n "${JAR}" ] && echo "java -jar ${JAR##*/} --spring.profiles.active=lazy" ;;
+		cds) [ -n "${JAR}" ] && [ -f "${APP_DIR}/application.jsa" ] \
+			&& echo "java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar ${JAR##*/}" ;;
+		native) [ -x "${NATIVE}" ] && echo "$(pwd)/${NATIVE}" ;;
+		*) echo "unknown mode: $1" >&2; return 1 ;;
+	esac
+}
+
+now_ms() {
+	date +%s%3N
+}
+
+[ -f "${RESULTS}" ] || echo "mode,run,time_to_first_request_ms,rss_kb" > "${RESULTS}"
+
+for mode in "${MODES[@]}"; do
+	cmd=$(command_for "${mode}" || true)
+	if [ -z "${cmd}" ]; then
+		echo "skipping ${mode}: build it first (see header)" >&2
+		continue
+	fi
+	for run in $(seq 1 "${RUNS}"); do
+		start=$(now_ms)
+		# the JVM modes run from target/app so the archive and lib/ resolve like in production
+		(cd "${APP_DIR}" 2>/dev/null || true; exec ${cmd} "${APP_ARGS[@]}") > "target/startup-${mode}.log" 2>&1 &
+		pid=$!
+		until curl -sf -o /dev/null "${URL}"; do
+			if ! kill -0 "${pid}" 2>/dev/null; then
+				echo "${mode} exited before serving a request, see target/startup-${mode}.log" >&2
+				exit 1
+			fi
+			sleep 0.01
+		done
+		elapsed=$(( $(now_ms) - start ))
+		rss=$(awk '/VmRSS/ {print $2}' "/proc/${pid}/status")
+		kill "${pid}"
+		wait "${pid}" 2>/dev/null || true
+		echo "${mode},${run},${elapsed},${rss}" | tee -a "${RESULTS}"
+	done
+done
@@ -0,0 +1,49 @@
+package net.java.junit.springboot.benchmark;
+
+import net.java.junit.springboot.SpringBootTestingApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+//Starts the application without a web server on its own in-memory H2 database
+final class BenchmarkApplication {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private BenchmarkApplication(){
+    }
+
+    static ConfigurableApplicationContext start(String... properties){
+        String[] defaults = {
+                "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "employee.cache.enabled=false",
+                "logging.level.root=WARN"
+        };
+        //Passed as command line arguments: default properties would lose against application.properties
+        return new SpringApplicationBuilder(SpringBootTestingApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(Stream.concat(Stream.of(defaults), Stream.of(properties)).map(property -> "--" + property)
+                        .toArray(String[]::new));
+    }
+
+    //Inserts rows with ids 1..rows through plain JDBC batches; employee i is "First<i> Last<i>"
+    static void seedEmployees(ConfigurableApplicationContext context, int rows){
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 1; i <= rows; i++) {
+            batch.add(new Object[]{(long) i, "First" + i, "Last" + i, "employee" + i + "@gmail.com"});
+            if (batch.size() == SEED_BATCH_SIZE || i == rows) {
+                jdbcTemplate.batchUpdate(
+                        "insert into employees (id, first_name, last_name, email, version) values (?, ?, ?, ?, 0)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
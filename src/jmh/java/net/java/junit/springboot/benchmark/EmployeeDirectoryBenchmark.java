@@ -0,0 +1,104 @@
+package net.java.junit.springboot.benchmark;
+
+import net.java.junit.springboot.directory.EmployeeDirectory;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+//EmployeeService reads from the database (jpa) and from the off-heap directory (offheap).
+//Setup prints what holding the whole roster costs: for jpa the heap taken by the entities a heap-based directory
+//would keep, for offheap the heap left after loading the directory plus the direct memory it uses.
+//Every iteration prints the GC time it caused; add -prof gc to the JMH arguments for the allocation per call.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeDirectoryBenchmark {
+
+    @Param({"jpa", "offheap"})
+    public String source;
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeService employeeService;
+
+    //The roster as entities, kept for the jpa footprint
+    private List<Employee> roster;
+
+    private long gcMillis;
+
+    @Setup
+    public void setUp(){
+        boolean offHeap = source.equals("offheap");
+        context = BenchmarkApplication.start(
+                "employee.directory.enabled=" + offHeap,
+                "employee.outbox.enabled=false");
+        BenchmarkApplication.seedEmployees(context, rows);
+        employeeService = context.getBean(EmployeeService.class);
+
+        long heapBefore = usedHeapAfterGc();
+        long offHeapBytes = 0;
+        if (offHeap) {
+            EmployeeDirectory directory = context.getBean(EmployeeDirectory.class);
+            directory.load();
+            offHeapBytes = directory.offHeapBytes();
+        } else {
+            roster = employeeService.getAllEmployee();
+        }
+        long heapBytes = usedHeapAfterGc() - heapBefore;
+        System.out.printf("  [source=%s] roster of %d employees: %.1f MB heap (%d bytes per employee), %.1f MB off-heap%n",
+                source, rows, heapBytes / 1048576.0, heapBytes / rows, offHeapBytes / 1048576.0);
+    }
+
+    @TearDown
+    public void tearDown(){
+        roster = null;
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void startGcClock(){
+        gcMillis = totalGcMillis();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printGcTime(){
+        System.out.printf("  [source=%s] %d ms in GC this iteration%n", source, totalGcMillis() - gcMillis);
+    }
+
+    @Benchmark
+    public Optional<Employee> getEmployeeById(){
+        return employeeService.getEmployeeById(ThreadLocalRandom.current().nextLong(1, rows + 1));
+    }
+
+    @Benchmark
+    public List<Employee> getAllEmployee(){
+        return employeeService.getAllEmployee();
+    }
+
+    private static long usedHeapAfterGc(){
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long totalGcMillis(){
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+}
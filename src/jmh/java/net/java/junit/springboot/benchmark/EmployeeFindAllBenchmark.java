@@ -0,0 +1,42 @@
+package net.java.junit.springboot.benchmark;
+
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeFindAllBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeRepository employeeRepository;
+
+    @Setup
+    public void setUp(){
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seedEmployees(context, rows);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+    }
+
+    @TearDown
+    public void tearDown(){
+        context.close();
+    }
+
+    @Benchmark
+    public List<Employee> findAll(){
+        return employeeRepository.findAll();
+    }
+}
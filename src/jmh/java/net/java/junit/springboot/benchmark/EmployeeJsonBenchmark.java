@@ -0,0 +1,78 @@
+package net.java.junit.springboot.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import net.java.junit.springboot.model.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+//mapper: reflective is Jackson's default bean serializer as the application uses it, blackbird the same with
+//generated accessors (not used by the application, it was no faster beyond the noise), smile and cbor the
+//binary formats BinaryJsonConfig offers.
+//Add -prof gc to the JMH arguments for the bytes allocated per call.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeJsonBenchmark {
+
+    @Param({"reflective", "blackbird", "smile", "cbor"})
+    public String mapper;
+
+    private ObjectMapper objectMapper;
+
+    private Employee employee;
+
+    //A page of GET /api/employees?size=100
+    private List<Employee> employees;
+
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        //Same defaults as the ObjectMapper Spring Boot configures for the controllers
+        objectMapper = switch (mapper) {
+            case "reflective" -> Jackson2ObjectMapperBuilder.json().build();
+            case "blackbird" -> Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            default -> throw new IllegalArgumentException("Unknown mapper " + mapper);
+        };
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email("ram@gmail.com")
+                .build();
+        employees = LongStream.rangeClosed(1, 100)
+                .mapToObj(id -> Employee.builder()
+                        .id(id)
+                        .firstName("First" + id)
+                        .lastName("Last" + id)
+                        .email("employee" + id + "@gmail.com")
+                        .build())
+                .toList();
+        json = objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public Employee deserialize() throws Exception {
+        return objectMapper.readValue(json, Employee.class);
+    }
+}
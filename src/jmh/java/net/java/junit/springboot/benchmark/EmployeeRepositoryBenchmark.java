@@ -0,0 +1,71 @@
+package net.java.junit.springboot.benchmark;
+
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeRepositoryBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeRepository employeeRepository;
+
+    @Setup
+    public void setUp(){
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seedEmployees(context, rows);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+    }
+
+    @TearDown
+    public void tearDown(){
+        context.close();
+    }
+
+    private int randomRow(){
+        return ThreadLocalRandom.current().nextInt(1, rows + 1);
+    }
+
+    @Benchmark
+    public Optional<Employee> findByEmail(){
+        return employeeRepository.findByEmail("employee" + randomRow() + "@gmail.com");
+    }
+
+    @Benchmark
+    public Employee findByJPQL(){
+        int row = randomRow();
+        return employeeRepository.findByJPQL("First" + row, "Last" + row);
+    }
+
+    @Benchmark
+    public Employee findByNamedParams(){
+        int row = randomRow();
+        return employeeRepository.findByNamedParams("First" + row, "Last" + row);
+    }
+
+    @Benchmark
+    public Employee findByNativeSQL(){
+        int row = randomRow();
+        return employeeRepository.findByNativeSQL("First" + row, "Last" + row);
+    }
+
+    @Benchmark
+    public Employee findByNativeSQLWithNamedParams(){
+        int row = randomRow();
+        return employeeRepository.findByNativeSQLWithNamedParams("First" + row, "Last" + row);
+    }
+}
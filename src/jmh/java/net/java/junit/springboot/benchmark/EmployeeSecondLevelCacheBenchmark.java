@@ -0,0 +1,95 @@
+package net.java.junit.springboot.benchmark;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.repository.EmployeeRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+//Reads with the Hibernate second-level and query cache off and on (Spring's employee caches stay off).
+//Besides the latency, every iteration prints the JDBC statements per call, i.e. the database round trips
+//each request still needs; with hotRows <= the employee region size they drop to ~0 once warmed up.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeSecondLevelCacheBenchmark {
+
+    @Param({"false", "true"})
+    public boolean secondLevelCache;
+
+    @Param({"10000"})
+    public int rows;
+
+    //Reads pick from the first hotRows employees
+    @Param({"1000"})
+    public int hotRows;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeRepository employeeRepository;
+
+    private Statistics statistics;
+
+    private final LongAdder calls = new LongAdder();
+
+    @Setup
+    public void setUp(){
+        context = BenchmarkApplication.start(
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                "spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache);
+        BenchmarkApplication.seedEmployees(context, rows);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @TearDown
+    public void tearDown(){
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetRoundTrips(){
+        statistics.clear();
+        calls.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printRoundTrips(){
+        long count = calls.sum();
+        System.out.printf("  [secondLevelCache=%s] %.3f database round trips per call (%d statements, %d calls)%n",
+                secondLevelCache, count == 0 ? 0 : (double) statistics.getPrepareStatementCount() / count,
+                statistics.getPrepareStatementCount(), count);
+    }
+
+    private int randomRow(){
+        calls.increment();
+        return ThreadLocalRandom.current().nextInt(1, hotRows + 1);
+    }
+
+    @Benchmark
+    public Optional<Employee> findById(){
+        return employeeRepository.findById((long) randomRow());
+    }
+
+    @Benchmark
+    public Employee findByJPQL(){
+        int row = randomRow();
+        return employeeRepository.findByJPQL("First" + row, "Last" + row);
+    }
+
+    @Benchmark
+    public Employee findByNativeSQL(){
+        int row = randomRow();
+        return employeeRepository.findByNativeSQL("First" + row, "Last" + row);
+    }
+}
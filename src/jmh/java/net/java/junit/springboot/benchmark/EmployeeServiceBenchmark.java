@@ -0,0 +1,44 @@
+package net.java.junit.springboot.benchmark;
+
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeService employeeService;
+
+    private long sequence;
+
+    @Setup
+    public void setUp(){
+        context = BenchmarkApplication.start();
+        employeeService = context.getBean(EmployeeService.class);
+    }
+
+    @TearDown
+    public void tearDown(){
+        context.close();
+    }
+
+    @Benchmark
+    public Employee saveEmployee(){
+        long next = sequence++;
+        return employeeService.saveEmployee(Employee.builder()
+                .firstName("First" + next)
+                .lastName("Last" + next)
+                .email("save" + next + "@gmail.com")
+                .build());
+    }
+}
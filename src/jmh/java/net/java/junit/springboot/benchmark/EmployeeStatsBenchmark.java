@@ -0,0 +1,61 @@
+package net.java.junit.springboot.benchmark;
+
+import net.java.junit.springboot.dto.EmployeeStats;
+import net.java.junit.springboot.service.EmployeeStatsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+//Scaling of the stats aggregations with employee.stats.parallelism fork-join workers. Only duplicateNames runs
+//on the pool; the GROUP BY stats are single queries and show what the database does on its own.
+//Parallelism above the cores of the machine measures contention, not speedup.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeStatsBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeStatsService statsService;
+
+    @Setup
+    public void setUp(){
+        context = BenchmarkApplication.start(
+                "employee.stats.parallelism=" + parallelism,
+                "employee.outbox.enabled=false",
+                //One connection per worker, so workers never wait for the pool
+                "spring.datasource.hikari.maximum-pool-size=" + Math.max(10, parallelism + 2));
+        BenchmarkApplication.seedEmployees(context, rows);
+        statsService = context.getBean(EmployeeStatsService.class);
+    }
+
+    @TearDown
+    public void tearDown(){
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeeStats duplicateNames(){
+        return statsService.findDuplicateNames(100);
+    }
+
+    @Benchmark
+    public EmployeeStats countByEmailDomain(){
+        return statsService.countByEmailDomain(100);
+    }
+
+    @Benchmark
+    public EmployeeStats countByLastName(){
+        return statsService.countByLastName(100);
+    }
+}
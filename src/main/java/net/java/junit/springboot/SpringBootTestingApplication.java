@@ -1,9 +1,12 @@
 package net.java.junit.springboot;
 
 import org.springframework.boot.SpringApplication;
+import net.java.junit.springboot.config.EmployeeRuntimeHints;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(EmployeeRuntimeHints.class)
 public class SpringBootTestingApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,76 @@
+package net.java.junit.springboot.config;
+
+import net.java.junit.springboot.model.Employee;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+//Caffeine cache manager, sizing and metrics come from the spring.cache.* properties;
+//set employee.cache.enabled=false to run every read against the database
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+@ConditionalOnProperty(name = "employee.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+
+    public static final String EMPLOYEES_BY_ID = "employeesById";
+
+    public static final String EMPLOYEES_BY_EMAIL = "employeesByEmail";
+
+    //Takes the place of Spring Boot's Caffeine cache manager. Evictions and puts made inside a transaction are
+    //applied after it commits: an eviction before the commit would let a concurrent read put the old row back
+    //for the whole expireAfterWrite.
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new EmployeeCopyingCacheManager();
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            cacheManager.setCacheSpecification(spec);
+        }
+        cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    //Employees are mutable entities: the cache keeps its own copy and hands out a new one on every hit,
+    //so a caller changing the employee it got cannot change what the next caller reads
+    private static class EmployeeCopyingCacheManager extends CaffeineCacheManager {
+
+        @Override
+        protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+            return new CaffeineCache(name, cache, isAllowNullValues()) {
+
+                @Override
+                protected Object toStoreValue(Object userValue) {
+                    return super.toStoreValue(copyOf(userValue));
+                }
+
+                @Override
+                protected Object fromStoreValue(Object storeValue) {
+                    return copyOf(super.fromStoreValue(storeValue));
+                }
+            };
+        }
+
+        private static Object copyOf(Object value) {
+            if (value instanceof Employee employee) {
+                return Employee.builder()
+                        .id(employee.getId())
+                        .firstName(employee.getFirstName())
+                        .lastName(employee.getLastName())
+                        .email(employee.getEmail())
+                        .version(employee.getVersion())
+                        .build();
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package net.java.junit.springboot.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import net.java.junit.springboot.directory.EmployeeDirectory;
+import net.java.junit.springboot.directory.EmployeeDirectoryProperties;
+import net.java.junit.springboot.directory.EmployeeDirectorySnapshotter;
+import net.java.junit.springboot.repository.EmployeeRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+//Set employee.directory.enabled=true to serve employee reads by id and the full list from an off-heap snapshot
+//instead of the database; size direct memory (-XX:MaxDirectMemorySize) for about 100 bytes per employee.
+//employee.directory.snapshot-file additionally keeps it on disk for warm restarts.
+@Configuration
+@ConditionalOnProperty(name = "employee.directory.enabled", havingValue = "true")
+@EnableConfigurationProperties(EmployeeDirectoryProperties.class)
+public class EmployeeDirectoryConfig {
+
+    @Bean
+    public EmployeeDirectory employeeDirectory(EmployeeRepository employeeRepository, EntityManager entityManager,
+                                               EmployeeDirectoryProperties properties) {
+        return new EmployeeDirectory(employeeRepository, entityManager, properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.directory.snapshot-file")
+    public EmployeeDirectorySnapshotter employeeDirectorySnapshotter(EmployeeDirectory employeeDirectory,
+                                                                     EmployeeDirectoryProperties properties) {
+        return new EmployeeDirectorySnapshotter(employeeDirectory, properties.snapshotInterval());
+    }
+
+    @Bean
+    public MeterBinder employeeDirectoryMetrics(EmployeeDirectory employeeDirectory) {
+        return registry -> {
+            Gauge.builder("employee.directory.size", employeeDirectory, EmployeeDirectory::size)
+                    .description("Employees in the off-heap directory")
+                    .register(registry);
+            Gauge.builder("employee.directory.off.heap", employeeDirectory, EmployeeDirectory::offHeapBytes)
+                    .baseUnit("bytes")
+                    .description("Direct memory held by the off-heap directory")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package net.java.junit.springboot.config;
+
+import net.java.junit.springboot.dto.EmployeeCount;
+import net.java.junit.springboot.dto.EmployeeEmailView;
+import net.java.junit.springboot.dto.EmployeeNameView;
+import net.java.junit.springboot.dto.EmployeeVersionView;
+import net.java.junit.springboot.model.Employee;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+//Reflection the AOT engine cannot infer from method signatures, needed by the native image:
+//the projection records are only named through Class<T> arguments (Spring Data instantiates them, Jackson writes them),
+//the select new DTOs (EmployeeCount, EmployeeVersionView) are only named inside JPQL strings that Hibernate
+//instantiates reflectively, and Employee is also serialized by the streaming endpoint through an ObjectWriter.
+//The second-level cache regions are read from a class path resource that only a property names.
+//The entity mapping itself is contributed by Spring's JPA AOT support and Lombok is compile time only.
+public class EmployeeRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        Class<?>[] views = {EmployeeNameView.class, EmployeeEmailView.class, EmployeeCount.class, EmployeeVersionView.class};
+        for (Class<?> view : views) {
+            hints.reflection().registerType(view, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+        BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+        bindings.registerReflectionHints(hints.reflection(), views);
+        bindings.registerReflectionHints(hints.reflection(), Employee.class);
+        hints.resources().registerPattern("hibernate-cache.conf");
+    }
+}
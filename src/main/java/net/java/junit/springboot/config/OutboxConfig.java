@@ -0,0 +1,50 @@
+package net.java.junit.springboot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import net.java.junit.springboot.outbox.ChangeSink;
+import net.java.junit.springboot.outbox.EmployeeChangeFeed;
+import net.java.junit.springboot.outbox.EmployeeOutbox;
+import net.java.junit.springboot.outbox.EmployeeOutboxRelay;
+import net.java.junit.springboot.outbox.InMemoryChangeBroker;
+import net.java.junit.springboot.outbox.OutboxProperties;
+import net.java.junit.springboot.repository.EmployeeChangeRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+//Change data capture for employee writes (employee.outbox.enabled): every write also appends to the outbox table,
+//the relay publishes the rows to all ChangeSink beans and GET /api/employees/changes serves them by position
+@Configuration
+@ConditionalOnProperty(name = "employee.outbox.enabled", havingValue = "true")
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    public EmployeeOutbox employeeOutbox(EntityManager entityManager, ObjectMapper objectMapper) {
+        return new EmployeeOutbox(entityManager, objectMapper);
+    }
+
+    @Bean
+    public InMemoryChangeBroker inMemoryChangeBroker() {
+        return new InMemoryChangeBroker();
+    }
+
+    @Bean
+    public EmployeeChangeFeed employeeChangeFeed(EmployeeChangeRepository repository, OutboxProperties properties) {
+        return new EmployeeChangeFeed(repository, properties.longPollTimeout());
+    }
+
+    @Bean
+    public EmployeeOutboxRelay employeeOutboxRelay(EmployeeChangeRepository repository,
+                                                   PlatformTransactionManager transactionManager,
+                                                   ObjectProvider<ChangeSink> sinks, EmployeeChangeFeed feed,
+                                                   OutboxProperties properties) {
+        return new EmployeeOutboxRelay(repository, new TransactionTemplate(transactionManager),
+                sinks.orderedStream().toList(), feed, properties);
+    }
+}
@@ -0,0 +1,33 @@
+package net.java.junit.springboot.config;
+
+import net.java.junit.springboot.overload.OverloadInterceptor;
+import net.java.junit.springboot.overload.OverloadProperties;
+import net.java.junit.springboot.overload.OverloadProtection;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+//Set employee.overload.enabled=true to rate limit clients and shed load on the employee API (see OverloadProperties)
+@Configuration
+@ConditionalOnProperty(name = "employee.overload.enabled", havingValue = "true")
+@EnableConfigurationProperties(OverloadProperties.class)
+public class OverloadProtectionConfig {
+
+    @Bean
+    public OverloadProtection overloadProtection(OverloadProperties properties) {
+        return new OverloadProtection(properties);
+    }
+
+    @Bean
+    public WebMvcConfigurer overloadWebMvcConfigurer(OverloadProtection overloadProtection) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new OverloadInterceptor(overloadProtection)).addPathPatterns("/api/employees/**");
+            }
+        };
+    }
+}
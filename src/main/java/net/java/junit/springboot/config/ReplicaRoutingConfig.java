@@ -0,0 +1,116 @@
+package net.java.junit.springboot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.java.junit.springboot.datasource.ReadYourWrites;
+import net.java.junit.springboot.datasource.ReadYourWritesFilter;
+import net.java.junit.springboot.datasource.ReplicaDataSourceProperties;
+import net.java.junit.springboot.datasource.ReplicaHealthCheck;
+import net.java.junit.springboot.datasource.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+//Set employee.datasource.replicas.enabled=true (see application-replicas.properties) to run read-only
+//transactions on read replicas; everything else stays on the primary configured by spring.datasource.*
+@Configuration
+@ConditionalOnProperty(name = "employee.datasource.replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicaRoutingConfig {
+
+    //The primary pool as Spring Boot would have built it, spring.datasource.hikari.* included
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(ReplicaDataSourceProperties properties) {
+        return new ReadYourWrites(properties.stickiness());
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(ReplicaDataSourceProperties properties,
+                                                             HikariDataSource primaryDataSource,
+                                                             ReadYourWrites readYourWrites,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.urls().size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(properties.urls().get(i));
+            replica.setUsername(properties.username());
+            replica.setPassword(properties.password());
+            replica.setMaximumPoolSize(properties.maximumPoolSize());
+            replica.setConnectionTimeout(properties.connectionTimeout().toMillis());
+            replica.setReadOnly(true);
+            //A replica that is down at startup must not stop the application, it is only taken out of rotation
+            replica.setInitializationFailTimeout(-1);
+            meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWrites);
+    }
+
+    //Hands out connection proxies and only takes a real connection on first use. By then the transaction
+    //manager has marked @Transactional(readOnly = true) connections read-only, and those come from the replicas.
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaHealthCheck replicaHealthCheck(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                                 ReplicaDataSourceProperties properties) {
+        return new ReplicaHealthCheck(replicaRoutingDataSource, properties.healthCheckInterval());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWrites readYourWrites) {
+        return new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWrites));
+    }
+
+    //Reads fall back to the primary, so replicas that are down leave the application UP and are listed as details
+    @Bean
+    public HealthIndicator replicasHealthIndicator(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return () -> {
+            Health.Builder health = Health.up();
+            replicaRoutingDataSource.replicaHealth()
+                    .forEach((replica, healthy) -> health.withDetail(replica, healthy ? "UP" : "DOWN"));
+            return health.build();
+        };
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return registry -> {
+            for (String target : replicaRoutingDataSource.targets()) {
+                FunctionCounter.builder("employee.datasource.read.connections", replicaRoutingDataSource,
+                                routing -> routing.connectionCount(target))
+                        .tag("target", target)
+                        .description("Read-only connections handed out by the replica routing")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package net.java.junit.springboot.config;
+
+import com.github.benmanes.caffeine.jcache.CacheManagerImpl;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.Properties;
+
+//Hibernate second-level and query cache on JCache (Caffeine); regions are sized in the file named by
+//hibernate.javax.cache.uri (hibernate-cache.conf).
+//Set spring.jpa.properties.hibernate.cache.use_second_level_cache=false to read every entity from the database
+@Configuration(proxyBeanMethods = false)
+public class SecondLevelCacheConfig {
+
+    public static final String EMPLOYEE_REGION = "employee";
+
+    public static final String EMPLOYEE_FINDER_REGION = "employee-finders";
+
+    //Hibernate's own region for cacheable queries without an explicit region
+    static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+
+    //The caching provider hands out one CacheManager per URI and class loader, so every application context
+    //in the JVM (test contexts, the pool sweep) would share regions although each has its own database.
+    //Each EntityManagerFactory gets its own manager instead; Hibernate closes it with the factory.
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheManager() {
+        return properties -> {
+            if ("false".equals(String.valueOf(properties.get(AvailableSettings.USE_SECOND_LEVEL_CACHE)))) {
+                return;
+            }
+            //Hibernate reads hibernate.javax.cache.uri as a class path resource, Caffeine needs the classpath: scheme
+            URI regionConfig = URI.create("classpath:" + properties.get(ConfigSettings.CONFIG_URI));
+            properties.put(ConfigSettings.CACHE_MANAGER, new CacheManagerImpl(Caching.getCachingProvider(),
+                    false, regionConfig, SecondLevelCacheConfig.class.getClassLoader(), new Properties()));
+        };
+    }
+
+    //HibernateMetrics exports hit and miss counters; the ratio per region is what the region sizing is tuned by
+    @Bean
+    MeterBinder secondLevelCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            for (String region : List.of(EMPLOYEE_REGION, EMPLOYEE_FINDER_REGION, DEFAULT_QUERY_REGION)) {
+                Gauge.builder("hibernate.cache.hit.ratio", statistics, stats -> hitRatio(stats.getCacheRegionStatistics(region)))
+                        .tag("region", region)
+                        .description("Share of second-level and query cache lookups answered without the database")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double hitRatio(CacheRegionStatistics region) {
+        if (region == null) {
+            return Double.NaN;
+        }
+        long lookups = region.getHitCount() + region.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) region.getHitCount() / lookups;
+    }
+}
@@ -0,0 +1,21 @@
+package net.java.junit.springboot.config;
+
+import net.java.junit.springboot.service.EmployeeService;
+import net.java.junit.springboot.writebehind.EmployeeWriteBehind;
+import net.java.junit.springboot.writebehind.WriteBehindProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+//Set employee.write-behind.enabled=true to acknowledge POST/PUT with 202 and commit them in batches
+@Configuration
+@ConditionalOnProperty(name = "employee.write-behind.enabled", havingValue = "true")
+@EnableConfigurationProperties(WriteBehindProperties.class)
+public class WriteBehindConfig {
+
+    @Bean
+    public EmployeeWriteBehind employeeWriteBehind(EmployeeService employeeService, WriteBehindProperties properties) {
+        return new EmployeeWriteBehind(employeeService, properties);
+    }
+}
@@ -0,0 +1,39 @@
+package net.java.junit.springboot.controller;
+
+import net.java.junit.springboot.dto.EmployeeChanges;
+import net.java.junit.springboot.outbox.EmployeeChangeFeed;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+
+//Incremental sync instead of polling the whole roster: start with since=0, then keep passing the returned next.
+//A poll with nothing new waits for the next change (long poll).
+@RestController
+@RequestMapping("/api/employees/changes")
+public class EmployeeChangeController {
+    private static final int MAX_CHANGES = 1000;
+
+    //Only present when employee.outbox.enabled=true
+    private final EmployeeChangeFeed changeFeed;
+
+    public EmployeeChangeController(ObjectProvider<EmployeeChangeFeed> changeFeed){
+        this.changeFeed = changeFeed.getIfAvailable();
+    }
+
+    //410 when changes after since are past the outbox retention: re-read GET /api/employees and go on from
+    //the oldest retained position; the changes carry whole employees, so applying one twice is harmless
+    @GetMapping
+    public DeferredResult<EmployeeChanges> getChanges(@RequestParam(name = "since", defaultValue = "0") long since,
+                                                      @RequestParam(name = "limit", defaultValue = "100") int limit){
+        if (changeFeed == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Change feed is disabled (employee.outbox.enabled)");
+        }
+        if (changeFeed.isExpired(since)) {
+            throw new ResponseStatusException(HttpStatus.GONE, "Changes after " + since
+                    + " are no longer retained, the oldest retained position is " + changeFeed.firstPosition());
+        }
+        return changeFeed.poll(since, Math.max(1, Math.min(limit, MAX_CHANGES)));
+    }
+}
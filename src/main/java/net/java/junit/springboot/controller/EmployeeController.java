@@ -1,50 +1,344 @@
 package net.java.junit.springboot.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import net.java.junit.springboot.dto.EmployeeBatchItemResult;
+import net.java.junit.springboot.dto.EmployeeEmailView;
+import net.java.junit.springboot.dto.EmployeeLookupRequest;
+import net.java.junit.springboot.dto.EmployeeLookupResult;
+import net.java.junit.springboot.dto.EmployeeNameView;
+import net.java.junit.springboot.dto.WriteBehindStatus;
+import net.java.junit.springboot.dto.WriteTicket;
+import net.java.junit.springboot.etag.EmployeeJsonCache;
+import net.java.junit.springboot.etag.EmployeeVersionTracker;
+import net.java.junit.springboot.exception.WriteBehindQueueFullException;
 import net.java.junit.springboot.model.Employee;
 import net.java.junit.springboot.service.EmployeeService;
+import net.java.junit.springboot.writebehind.EmployeeWriteBehind;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/employees")
 public class EmployeeController {
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private static final int MAX_SEARCH_RESULTS = 100;
+
+    private static final int MAX_LOOKUP_KEYS = 1000;
+
+    private static final List<MediaType> BINARY_JSON_TYPES =
+            List.of(new MediaType("application", "x-jackson-smile"), MediaType.APPLICATION_CBOR);
+
     private final EmployeeService employeeService;
 
-    public EmployeeController(EmployeeService employeeService){
+    private final ObjectMapper objectMapper;
+
+    private final EmployeeVersionTracker versionTracker;
+
+    //Only present when employee.write-behind.enabled=true
+    private final EmployeeWriteBehind writeBehind;
+
+    //Only present when employee.json-cache.enabled=true
+    private final EmployeeJsonCache jsonCache;
+
+    public EmployeeController(EmployeeService employeeService, ObjectMapper objectMapper,
+                              EmployeeVersionTracker versionTracker,
+                              ObjectProvider<EmployeeWriteBehind> writeBehind,
+                              ObjectProvider<EmployeeJsonCache> jsonCache){
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.versionTracker = versionTracker;
+        this.writeBehind = writeBehind.getIfAvailable();
+        this.jsonCache = jsonCache.getIfAvailable();
     }
 
+    //In write-behind mode the create is queued and acknowledged with 202 and a ticket
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public Employee createEmployee(@RequestBody Employee employee){
-        return employeeService.saveEmployee(employee);
+    public ResponseEntity<?> createEmployee(@RequestBody Employee employee){
+        if (writeBehind != null) {
+            return accepted(writeBehind.submitCreate(employee));
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(employeeService.saveEmployee(employee));
     }
 
+    @PostMapping("batch")
+    public List<EmployeeBatchItemResult> createEmployees(@RequestBody List<Employee> employees){
+        return employeeService.saveAllEmployees(employees);
+    }
+
+    //Resolves many ids and emails in one call instead of one GET per employee; unknown keys are listed as missing
+    @PostMapping("lookup")
+    public EmployeeLookupResult lookupEmployees(@RequestBody EmployeeLookupRequest request){
+        if (request.size() > MAX_LOOKUP_KEYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_LOOKUP_KEYS + " ids and emails per lookup, got " + request.size());
+        }
+        return employeeService.lookupEmployees(request.ids(), request.emails());
+    }
+
+    //Collection reads carry the collection ETag; a poll with a matching If-None-Match gets 304 without a query
     @GetMapping
-    public List<Employee> getAllEmployees(){
-        return employeeService.getAllEmployee();
+    public ResponseEntity<List<Employee>> getAllEmployees(WebRequest request){
+        return collectionResponse(request, employeeService::getAllEmployee);
     }
 
-    @GetMapping("{id}")
-    public ResponseEntity<Employee> getEmployeeById(@PathVariable("id") long employeeId){
-        return employeeService.getEmployeeById(employeeId)
+    //Keyset pagination: pass the id of the last employee of the previous page as afterId
+    @GetMapping(params = {"size", "!fields"})
+    public ResponseEntity<List<Employee>> getEmployeesPage(@RequestParam(name = "afterId", defaultValue = "0") long afterId,
+                                                           @RequestParam("size") int size, WebRequest request){
+        return collectionResponse(request,
+                () -> employeeService.getEmployeesAfter(afterId, Math.max(1, Math.min(size, MAX_PAGE_SIZE))));
+    }
+
+    //Projection reads (fields=name or fields=email), optionally keyset paginated like getEmployeesPage
+    @GetMapping(params = {"fields", "!email"})
+    public ResponseEntity<List<?>> getEmployeeViews(@RequestParam("fields") String fields,
+                                                    @RequestParam(name = "afterId", defaultValue = "0") long afterId,
+                                                    @RequestParam(name = "size", required = false) Integer size,
+                                                    WebRequest request){
+        Class<?> view = viewFor(fields);
+        if (size == null) {
+            return collectionResponse(request, () -> employeeService.getAllEmployeeViews(view));
+        }
+        return collectionResponse(request,
+                () -> employeeService.getEmployeeViewsAfter(afterId, Math.max(1, Math.min(size, MAX_PAGE_SIZE)), view));
+    }
+
+    @GetMapping(params = {"email", "!fields"})
+    public ResponseEntity<Employee> getEmployeeByEmail(@RequestParam("email") String email){
+        return employeeService.getEmployeeByEmail(email)
                 .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    //The email lookup has no projection; without this mapping the request would fall through to getAllEmployees
+    @GetMapping(params = {"email", "fields"})
+    public ResponseEntity<Void> getEmployeeViewByEmail(){
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fields= is not supported together with email=");
+    }
+
+    //Type-ahead search over first name, last name and email, best matches first
+    @GetMapping("search")
+    public List<Employee> searchEmployees(@RequestParam("q") String query,
+                                          @RequestParam(name = "limit", defaultValue = "10") int limit){
+        return employeeService.searchEmployees(query, Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)));
+    }
+
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployeesAsNdjson(){
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(streamEmployees(false));
+    }
+
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployeesAsJsonArray(){
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(streamEmployees(true));
+    }
+
+    @GetMapping(value = "{id}", params = "fields")
+    public ResponseEntity<?> getEmployeeViewById(@PathVariable("id") long employeeId, @RequestParam("fields") String fields){
+        return employeeService.getEmployeeViewById(employeeId, viewFor(fields))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    //A known version answers If-None-Match with 304, and with the JSON cache enabled a 200 skips Jackson too
+    @GetMapping("{id}")
+    public ResponseEntity<?> getEmployeeById(@PathVariable("id") long employeeId, WebRequest request){
+        EmployeeJsonCache jsonCache = acceptsJson(request) ? this.jsonCache : null;
+        OptionalLong knownVersion = versionTracker.employeeVersion(employeeId);
+        if (knownVersion.isPresent()) {
+            String eTag = eTagOf(knownVersion.getAsLong());
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
+            Optional<byte[]> json = jsonCache == null ? Optional.empty() : jsonCache.get(employeeId, knownVersion.getAsLong());
+            if (json.isPresent()) {
+                return ResponseEntity.ok().eTag(eTag).contentType(MediaType.APPLICATION_JSON).body(json.get());
+            }
+        }
+        Optional<Employee> employee = employeeService.getEmployeeById(employeeId);
+        if (employee.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        versionTracker.recordRead(employee.get());
+        String eTag = eTagOf(employee.get());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        if (jsonCache != null) {
+            return ResponseEntity.ok().eTag(eTag).contentType(MediaType.APPLICATION_JSON).body(jsonCache.put(employee.get()));
+        }
+        return ResponseEntity.ok().eTag(eTag).body(employee.get());
+    }
+
+    //Send the ETag of the last read as If-Match to get a conditional update (412 on conflict);
+    //conditional updates always run synchronously, plain ones are queued in write-behind mode
     @PutMapping("{id}")
-    public ResponseEntity<Employee> updateEmployee(@PathVariable("id") long employeeId, @RequestBody Employee employee){
-        return employeeService.getEmployeeById(employeeId)
-                .map(savedEmployee -> {
-
-                    savedEmployee.setFirstName(employee.getFirstName());
-                    savedEmployee.setLastName(employee.getLastName());
-                    savedEmployee.setEmail(employee.getEmail());
-                    Employee updatedEmployee = employeeService.updateEmployee(savedEmployee);
-                    return  new ResponseEntity<>(updatedEmployee, HttpStatus.OK);
-                }).orElseGet(() -> ResponseEntity.notFound().build());
+    public ResponseEntity<?> updateEmployee(@PathVariable("id") long employeeId, @RequestBody Employee employee,
+                                            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        if (ifMatch == null && writeBehind != null) {
+            return accepted(writeBehind.submitUpdate(employeeId, employee));
+        }
+        Optional<Employee> updatedEmployee = ifMatch == null || ifMatch.equals("*")
+                ? employeeService.updateEmployee(employeeId, employee)
+                : employeeService.updateEmployee(employeeId, employee, versionOf(ifMatch));
+        return updatedEmployee
+                .map(updated -> ResponseEntity.ok().eTag(eTagOf(updated)).body(updated))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("writes")
+    public ResponseEntity<WriteBehindStatus> getWriteBehindStatus(){
+        if (writeBehind == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(writeBehind.status());
+    }
+
+    @GetMapping("writes/{ticket}")
+    public ResponseEntity<WriteTicket> getWriteTicket(@PathVariable("ticket") long ticket){
+        return Optional.ofNullable(writeBehind)
+                .flatMap(queue -> queue.getTicket(ticket))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @ExceptionHandler(WriteBehindQueueFullException.class)
+    public ResponseEntity<Void> handleWriteBehindQueueFull(){
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> handleOptimisticLockingFailure(){
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+    }
+
+    private static ResponseEntity<WriteTicket> accepted(WriteTicket ticket){
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/employees/writes/" + ticket.ticket()))
+                .body(ticket);
+    }
+
+    private <T> ResponseEntity<T> collectionResponse(WebRequest request, Supplier<T> read){
+        //Taken before the read, so a write committed meanwhile makes the next poll miss instead of serving stale data
+        String eTag = versionTracker.collectionETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(read.get());
+    }
+
+    private static String eTagOf(Employee employee){
+        return eTagOf(employee.getVersion());
+    }
+
+    private static String eTagOf(long version){
+        return "\"" + version + "\"";
+    }
+
+    private static long versionOf(String ifMatch){
+        //If-Match uses strong comparison and only strong version ETags are issued,
+        //so weak or foreign tags can never match the current version
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        throw new OptimisticLockingFailureException("If-Match does not match any current version: " + ifMatch);
+    }
+
+    private static Class<?> viewFor(String fields){
+        return switch (fields) {
+            case "name" -> EmployeeNameView.class;
+            case "email" -> EmployeeEmailView.class;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unsupported fields selector: " + fields + " (expected name or email)");
+        };
+    }
+
+    //Smile and CBOR clients (BinaryJsonConfig) skip the JSON cache and get their format through content negotiation.
+    //Accepted types are tried by quality and specificity, so application/json;q=0.9, application/cbor means CBOR.
+    private static boolean acceptsJson(WebRequest request){
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(acceptedTypes);
+        } catch (InvalidMimeTypeException e) {
+            //Left to content negotiation, which rejects the header
+            return false;
+        }
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.getQualityValue() == 0) {
+                continue;
+            }
+            if (acceptedType.includes(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+            if (BINARY_JSON_TYPES.stream().anyMatch(acceptedType::includes)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private StreamingResponseBody streamEmployees(boolean asArray){
+        // flushing after every value would turn each row into its own write
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return outputStream -> {
+            JsonGenerator generator = objectMapper.createGenerator(outputStream);
+            if (asArray) {
+                generator.writeStartArray();
+            } else {
+                generator.setRootValueSeparator(null);
+            }
+            employeeService.streamAllEmployees(employee -> {
+                try {
+                    writer.writeValue(generator, employee);
+                    if (!asArray) {
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (asArray) {
+                generator.writeEndArray();
+            }
+            generator.flush();
+        };
     }
 }
@@ -0,0 +1,48 @@
+package net.java.junit.springboot.controller;
+
+import net.java.junit.springboot.dto.EmployeeStats;
+import net.java.junit.springboot.service.EmployeeStatsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Locale;
+
+//Aggregations computed next to the data, so clients no longer pull the whole roster to count it.
+//The computation time is in the body and in a Server-Timing header (shown by browser dev tools).
+@RestController
+@RequestMapping("/api/employees/stats")
+public class EmployeeStatsController {
+    private static final int MAX_COUNTS = 1000;
+
+    private final EmployeeStatsService statsService;
+
+    public EmployeeStatsController(EmployeeStatsService statsService){
+        this.statsService = statsService;
+    }
+
+    @GetMapping("email-domains")
+    public ResponseEntity<EmployeeStats> countByEmailDomain(@RequestParam(name = "limit", defaultValue = "100") int limit){
+        return withTiming(statsService.countByEmailDomain(clamp(limit)));
+    }
+
+    @GetMapping("last-names")
+    public ResponseEntity<EmployeeStats> countByLastName(@RequestParam(name = "limit", defaultValue = "100") int limit){
+        return withTiming(statsService.countByLastName(clamp(limit)));
+    }
+
+    //Names that differ only in case, accents or spacing count as the same name
+    @GetMapping("duplicate-names")
+    public ResponseEntity<EmployeeStats> findDuplicateNames(@RequestParam(name = "limit", defaultValue = "100") int limit){
+        return withTiming(statsService.findDuplicateNames(clamp(limit)));
+    }
+
+    private static ResponseEntity<EmployeeStats> withTiming(EmployeeStats stats){
+        return ResponseEntity.ok()
+                .header("Server-Timing", String.format(Locale.ROOT, "%s;dur=%.3f", stats.computedBy(), stats.millis()))
+                .body(stats);
+    }
+
+    private static int clamp(int limit){
+        return Math.max(1, Math.min(limit, MAX_COUNTS));
+    }
+}
@@ -0,0 +1,68 @@
+package net.java.junit.springboot.controller;
+
+import net.java.junit.springboot.dto.EmployeeImportResult;
+import net.java.junit.springboot.service.EmployeeTransferService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+//Whole-roster transfer: curl --data-binary @employees.csv -H 'Content-Type: text/csv' .../api/employees/import
+@RestController
+@RequestMapping("/api/employees")
+public class EmployeeTransferController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final EmployeeTransferService transferService;
+
+    public EmployeeTransferController(EmployeeTransferService transferService){
+        this.transferService = transferService;
+    }
+
+    //The body is read as a stream, never buffered as a whole
+    @PostMapping(value = "import", consumes = TEXT_CSV_VALUE)
+    public EmployeeImportResult importCsv(InputStream body) throws IOException {
+        return transferService.importEmployees(body, EmployeeTransferService.Format.CSV);
+    }
+
+    @PostMapping(value = "import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public EmployeeImportResult importNdjson(InputStream body) throws IOException {
+        return transferService.importEmployees(body, EmployeeTransferService.Format.NDJSON);
+    }
+
+    @GetMapping("export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(@RequestParam(name = "format", defaultValue = "csv") String format){
+        EmployeeTransferService.Format exportFormat = formatOf(format);
+        MediaType contentType = exportFormat == EmployeeTransferService.Format.CSV
+                ? MediaType.parseMediaType(TEXT_CSV_VALUE)
+                : MediaType.APPLICATION_NDJSON;
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("employees." + format.toLowerCase())
+                        .build()
+                        .toString())
+                .body(outputStream -> transferService.exportEmployees(outputStream, exportFormat));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadImport(IllegalArgumentException e){
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    private static EmployeeTransferService.Format formatOf(String format){
+        return switch (format.toLowerCase()) {
+            case "csv" -> EmployeeTransferService.Format.CSV;
+            case "ndjson" -> EmployeeTransferService.Format.NDJSON;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unsupported export format: " + format + " (expected csv or ndjson)");
+        };
+    }
+}
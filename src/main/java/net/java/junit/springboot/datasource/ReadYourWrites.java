@@ -0,0 +1,94 @@
+package net.java.junit.springboot.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+
+//Read-your-writes for replica routing: once a client has written, its reads go to the primary for the
+//stickiness window, so it never reads its own change back from a replica that has not replayed it yet.
+//The window travels with the client in a cookie; ReadYourWritesFilter binds it to the request thread.
+public class ReadYourWrites {
+
+    static final String COOKIE = "employee-primary-until";
+
+    private final Duration stickiness;
+
+    private final Clock clock;
+
+    private final ThreadLocal<Client> current = new ThreadLocal<>();
+
+    public ReadYourWrites(Duration stickiness) {
+        this(stickiness, Clock.systemUTC());
+    }
+
+    ReadYourWrites(Duration stickiness, Clock clock) {
+        this.stickiness = stickiness;
+        this.clock = clock;
+    }
+
+    void begin(HttpServletRequest request, HttpServletResponse response) {
+        long primaryUntil = 0;
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    try {
+                        primaryUntil = Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException e) {
+                        // ignore a tampered cookie, the client just reads from a replica
+                    }
+                }
+            }
+        }
+        current.set(new Client(primaryUntil, response));
+    }
+
+    void end() {
+        current.remove();
+    }
+
+    //Writes outside a request (write-behind flusher, imports, tests) only make the calling thread sticky
+    public void markWrite() {
+        long primaryUntil = clock.millis() + stickiness.toMillis();
+        Client client = current.get();
+        if (client == null) {
+            current.set(new Client(primaryUntil, null));
+            return;
+        }
+        client.primaryUntil = primaryUntil;
+        //Service writes run before the controller writes the body, so the response is not committed yet
+        if (client.response != null && !client.response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE, Long.toString(primaryUntil));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, stickiness.toSeconds()));
+            client.response.addCookie(cookie);
+        }
+    }
+
+    public boolean isSticky() {
+        Client client = current.get();
+        return client != null && clock.millis() < client.primaryUntil;
+    }
+
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        markWrite();
+    }
+
+    private static final class Client {
+
+        private long primaryUntil;
+
+        private final HttpServletResponse response;
+
+        Client(long primaryUntil, HttpServletResponse response) {
+            this.primaryUntil = primaryUntil;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package net.java.junit.springboot.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+//employee.datasource.replicas.* settings
+//urls:                  JDBC URLs of the read replicas; read-only transactions are spread over the healthy ones
+//maximum-pool-size:     connections per replica pool
+//connection-timeout:    how long a read waits for a replica connection before it falls back to the primary
+//health-check-interval: how often replicas that are down are probed again (and healthy ones re-validated)
+//stickiness:            how long a client reads from the primary after its own write, at least the replication lag
+@ConfigurationProperties("employee.datasource.replicas")
+public record ReplicaDataSourceProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<String> urls,
+        @DefaultValue("sa") String username,
+        @DefaultValue("") String password,
+        @DefaultValue("8") int maximumPoolSize,
+        @DefaultValue("1s") Duration connectionTimeout,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("5s") Duration stickiness) {
+}
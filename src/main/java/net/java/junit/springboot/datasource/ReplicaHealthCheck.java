@@ -0,0 +1,49 @@
+package net.java.junit.springboot.datasource;
+
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+//Runs ReplicaRoutingDataSource.checkReplicas every health-check-interval on a daemon thread
+public class ReplicaHealthCheck implements SmartLifecycle {
+
+    private final ReplicaRoutingDataSource dataSource;
+
+    private final Duration interval;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public ReplicaHealthCheck(ReplicaRoutingDataSource dataSource, Duration interval) {
+        this.dataSource = dataSource;
+        this.interval = interval;
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        //The first check runs straight away; a read that reaches a down replica before that falls back to the primary
+        executor.scheduleWithFixedDelay(dataSource::checkReplicas, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+}
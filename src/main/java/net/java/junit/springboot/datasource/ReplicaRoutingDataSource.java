@@ -0,0 +1,163 @@
+package net.java.junit.springboot.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+//DataSource for read-only connections: round-robin over the healthy replicas.
+//A replica that refuses a connection is marked down until the next health check finds it answering again,
+//and the read moves on to the next one. A replica whose pool is merely exhausted stays in rotation. Reads go to the primary while the client is sticky after its own
+//write (ReadYourWrites) and while every replica is down.
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+
+    private final List<Replica> replicas = new ArrayList<>();
+
+    private final ReadYourWrites readYourWrites;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    //Connections handed out per target, to see how much read traffic the replicas take off the primary
+    private final Map<String, LongAdder> connections = new LinkedHashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWrites readYourWrites) {
+        this.primary = primary;
+        this.readYourWrites = readYourWrites;
+        connections.put(PRIMARY, new LongAdder());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicas.get(i));
+            this.replicas.add(replica);
+            connections.put(replica.name, new LongAdder());
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!readYourWrites.isSticky()) {
+            //A failed replica is marked down, so the next lookup skips it; a busy one is only skipped for this read
+            Replica replica;
+            for (int attempt = 0; attempt < replicas.size() && (replica = nextHealthyReplica()) != null; attempt++) {
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    connections.get(replica.name).increment();
+                    return connection;
+                } catch (SQLException e) {
+                    if (isPoolTimeout(e)) {
+                        log.debug("Read replica {} has no free connection, trying the next one", replica.name);
+                    } else {
+                        markDown(replica, e);
+                    }
+                }
+            }
+        }
+        Connection connection = primary.getConnection();
+        connections.get(PRIMARY).increment();
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica routing uses the credentials configured per pool");
+    }
+
+    //Called by ReplicaHealthCheck: validates every replica and brings recovered ones back into rotation
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    if (!replica.healthy) {
+                        log.info("Read replica {} is back, routing reads to it again", replica.name);
+                    }
+                    replica.healthy = true;
+                } else {
+                    markDown(replica, null);
+                }
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    public List<String> targets() {
+        return List.copyOf(connections.keySet());
+    }
+
+    public long connectionCount(String target) {
+        return connections.get(target).sum();
+    }
+
+    public Map<String, Boolean> replicaHealth() {
+        Map<String, Boolean> health = new LinkedHashMap<>();
+        replicas.forEach(replica -> health.put(replica.name, replica.healthy));
+        return Collections.unmodifiableMap(health);
+    }
+
+    //The replica pools belong to this DataSource, the primary is closed by its own bean
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    //Hikari's connection timeout: every connection of a reachable pool is in use. When the pool could not
+    //connect at all, the timeout carries the connection failure as its cause
+    private static boolean isPoolTimeout(SQLException e) {
+        return e instanceof SQLTransientConnectionException && e.getCause() == null;
+    }
+
+    private void markDown(Replica replica, SQLException e) {
+        if (replica.healthy) {
+            log.warn("Read replica {} is down, its reads go to the other replicas or the primary", replica.name, e);
+        }
+        replica.healthy = false;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+
+        private final DataSource dataSource;
+
+        private volatile boolean healthy = true;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
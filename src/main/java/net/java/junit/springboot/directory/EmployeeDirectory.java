@@ -0,0 +1,159 @@
+package net.java.junit.springboot.directory;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import net.java.junit.springboot.dto.EmployeeVersionView;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.repository.EmployeeRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+//Read model for getEmployeeById, getEmployeeByEmail and getAllEmployee: a snapshot of the employees table in an
+//OffHeapEmployeeStore, loaded once the application is ready and then kept current from EmployeeChangedEvent,
+//like EmployeeSearchIndex. Until the load has finished the service keeps reading from the database.
+//With a snapshot file the store is mapped from it while the bean is created, so reads are served from the
+//first request on; once the application is ready only the rows whose version differs are read from the table.
+@Slf4j
+public class EmployeeDirectory {
+
+    //Ids per findAllById when reloading out-of-date rows after a restore
+    static final int RELOAD_CHUNK_SIZE = 256;
+
+    private final EmployeeRepository employeeRepository;
+
+    private final EntityManager entityManager;
+
+    private final Path snapshotFile;
+
+    private final OffHeapEmployeeStore store;
+
+    private volatile boolean loaded;
+
+    //Restored from the snapshot file and not reconciled with the table yet
+    private volatile boolean restored;
+
+    private volatile long savedModifications = -1;
+
+    public EmployeeDirectory(EmployeeRepository employeeRepository, EntityManager entityManager,
+                             EmployeeDirectoryProperties properties) {
+        this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+        this.snapshotFile = properties.snapshotFile() == null ? null : Path.of(properties.snapshotFile());
+        this.store = restoreOrCreate(properties.initialCapacity());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (restored) {
+            reconcile();
+            restored = false;
+            return;
+        }
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            employees.forEach(employee -> {
+                store.put(employee);
+                entityManager.detach(employee);
+            });
+        }
+        loaded = true;
+    }
+
+    //Runs after commit, or straight away for writes outside a transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.type() == EmployeeChangedEvent.Type.DELETED) {
+            store.remove(event.id());
+        } else {
+            store.put(event.employee());
+        }
+    }
+
+    //Called by EmployeeDirectorySnapshotter; a directory that is still loading or reconciling is not saved
+    public void saveSnapshot() {
+        if (snapshotFile == null || !loaded || restored || store.modifications() == savedModifications) {
+            return;
+        }
+        try {
+            savedModifications = store.writeSnapshot(snapshotFile);
+            log.debug("Saved {} employees to snapshot {}", store.size(), snapshotFile);
+        } catch (IOException e) {
+            log.warn("Could not save employee snapshot {}", snapshotFile, e);
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public Optional<Employee> get(long id) {
+        return store.get(id);
+    }
+
+    public Optional<Employee> getByEmail(String email) {
+        return store.getByEmail(email);
+    }
+
+    public List<Employee> getAll() {
+        return store.getAll();
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    public long offHeapBytes() {
+        return store.offHeapBytes();
+    }
+
+    //A snapshot that is missing, from another format or damaged means a cold start, never a failed one
+    private OffHeapEmployeeStore restoreOrCreate(int initialCapacity) {
+        if (snapshotFile != null && Files.exists(snapshotFile)) {
+            try {
+                OffHeapEmployeeStore snapshot = OffHeapEmployeeStore.openSnapshot(snapshotFile);
+                log.info("Serving {} employees from snapshot {} until it is reconciled with the table",
+                        snapshot.size(), snapshotFile);
+                savedModifications = snapshot.modifications();
+                restored = true;
+                loaded = true;
+                return snapshot;
+            } catch (IOException e) {
+                log.warn("Ignoring employee snapshot {}, loading the directory from the table", snapshotFile, e);
+            }
+        }
+        return new OffHeapEmployeeStore(initialCapacity);
+    }
+
+    //Writes committed since the restore have already reached the store through onEmployeeChanged, so only
+    //rows the snapshot has at another version than the table are read, and rows the table no longer has dropped
+    private void reconcile() {
+        List<Long> outdated = new ArrayList<>();
+        try (Stream<EmployeeVersionView> versions = employeeRepository.streamVersions()) {
+            versions.forEach(row -> {
+                if (!store.confirm(row.id(), row.version())) {
+                    outdated.add(row.id());
+                }
+            });
+        }
+        for (int from = 0; from < outdated.size(); from += RELOAD_CHUNK_SIZE) {
+            employeeRepository.findAllById(outdated.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, outdated.size())))
+                    .forEach(employee -> {
+                        store.put(employee);
+                        entityManager.detach(employee);
+                    });
+        }
+        int dropped = store.dropUnconfirmed();
+        log.info("Reconciled employee snapshot with the table: {} rows reloaded, {} removed", outdated.size(), dropped);
+    }
+}
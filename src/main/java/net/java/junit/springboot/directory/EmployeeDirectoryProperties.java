@@ -0,0 +1,19 @@
+package net.java.junit.springboot.directory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+//employee.directory.* settings
+//initial-capacity: rows the off-heap columns are sized for up front; they double when full
+//snapshot-file: where the directory is saved every snapshot-interval and at shutdown, and mapped from at startup
+//               so reads are served before the table has been read; unset for no snapshots
+//snapshot-interval: time between two snapshots, skipped while nothing has changed
+@ConfigurationProperties("employee.directory")
+public record EmployeeDirectoryProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("65536") int initialCapacity,
+        String snapshotFile,
+        @DefaultValue("5m") Duration snapshotInterval) {
+}
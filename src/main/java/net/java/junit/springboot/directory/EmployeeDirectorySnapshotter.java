@@ -0,0 +1,56 @@
+package net.java.junit.springboot.directory;
+
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+//Runs EmployeeDirectory.saveSnapshot every snapshot-interval on a daemon thread, and once more on shutdown so
+//the next start has as little as possible to reconcile
+public class EmployeeDirectorySnapshotter implements SmartLifecycle {
+
+    private final EmployeeDirectory directory;
+
+    private final Duration interval;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public EmployeeDirectorySnapshotter(EmployeeDirectory directory, Duration interval) {
+        this.directory = directory;
+        this.interval = interval;
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-directory-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(directory::saveSnapshot, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(interval.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            directory.saveSnapshot();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+}
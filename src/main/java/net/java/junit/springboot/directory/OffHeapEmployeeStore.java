@@ -0,0 +1,636 @@
+package net.java.junit.springboot.directory;
+
+import net.java.junit.springboot.model.Employee;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+import java.util.zip.CRC32C;
+
+//Employees in direct (off-heap) memory, so millions of rows add nothing for the GC to trace.
+//Columns, one value per row slot:
+//  ids          long
+//  versions     long, DELETED once the employee is removed (ids are never reused, so the slot stays as a tombstone)
+//  strings      int, where the row's firstName, lastName and email start in the string area
+//  unconfirmed  byte, 1 while a row restored from a snapshot has not been checked against the table yet
+//String area: per row the three strings as unsigned 2-byte length + UTF-8 bytes. An update appends new strings
+//and leaves the old bytes as garbage; once garbage is half of the area it is rewritten with the live rows only.
+//Id index: open addressing with linear probing from id to slot, keys and slots in their own buffers; id 0 marks
+//an empty bucket (ids start at 1).
+//Email index: open addressing from the hash of the UTF-8 email to slot + 1 (0 marks an empty bucket). A changed
+//or removed email leaves its bucket behind; lookups compare against the row, and the index is rebuilt from the
+//live rows once half of it is used.
+//Reads only allocate the Employee objects they return.
+public class OffHeapEmployeeStore {
+
+    static final long DELETED = -1;
+
+    //Snapshot file: a header, then the columns, the used part of the string area and both indexes as they are
+    //in memory. The CRC32C covers the whole file except its own field, so damaged counts are caught as well.
+    private static final int SNAPSHOT_MAGIC = 0x454D5044;
+
+    //2: the checksum also covers the header
+    private static final int SNAPSHOT_FORMAT = 2;
+
+    private static final int SNAPSHOT_HEADER_BYTES = 48;
+
+    private static final int SNAPSHOT_CRC_OFFSET = 36;
+
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final StampedLock lock = new StampedLock();
+
+    private ByteBuffer ids;
+
+    private ByteBuffer versions;
+
+    private ByteBuffer stringOffsets;
+
+    private ByteBuffer unconfirmed;
+
+    private ByteBuffer strings;
+
+    private ByteBuffer indexKeys;
+
+    private ByteBuffer indexSlots;
+
+    private int indexBits;
+
+    private ByteBuffer emailBuckets;
+
+    private int emailBits;
+
+    private int emailEntries;
+
+    private int slots;
+
+    private int live;
+
+    private int garbageBytes;
+
+    //Bumped by every change, so a snapshot is only written when there is something new
+    private long modifications;
+
+    public OffHeapEmployeeStore(int initialCapacity) {
+        int capacity = Math.max(16, Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1);
+        ids = ByteBuffer.allocateDirect(capacity * Long.BYTES);
+        versions = ByteBuffer.allocateDirect(capacity * Long.BYTES);
+        stringOffsets = ByteBuffer.allocateDirect(capacity * Integer.BYTES);
+        unconfirmed = ByteBuffer.allocateDirect(capacity);
+        strings = ByteBuffer.allocateDirect(capacity * 64);
+        createIndex(capacity * 2);
+        createEmailIndex(capacity * 2);
+    }
+
+    //Serves straight from the mapped file. The mapping is private, so changes are copied on write and never
+    //reach the file; a column that outgrows its mapped section moves to direct memory.
+    private OffHeapEmployeeStore(ByteBuffer snapshot) {
+        slots = snapshot.getInt(8);
+        live = snapshot.getInt(12);
+        int stringBytes = snapshot.getInt(16);
+        garbageBytes = snapshot.getInt(20);
+        indexBits = snapshot.getInt(24);
+        emailBits = snapshot.getInt(28);
+        emailEntries = snapshot.getInt(32);
+        int at = SNAPSHOT_HEADER_BYTES;
+        ids = snapshot.slice(at, slots * Long.BYTES);
+        at += ids.capacity();
+        versions = snapshot.slice(at, slots * Long.BYTES);
+        at += versions.capacity();
+        stringOffsets = snapshot.slice(at, slots * Integer.BYTES);
+        at += stringOffsets.capacity();
+        strings = snapshot.slice(at, stringBytes).position(stringBytes);
+        at += strings.capacity();
+        indexKeys = snapshot.slice(at, (1 << indexBits) * Long.BYTES);
+        at += indexKeys.capacity();
+        indexSlots = snapshot.slice(at, (1 << indexBits) * Integer.BYTES);
+        at += indexSlots.capacity();
+        emailBuckets = snapshot.slice(at, (1 << emailBits) * Integer.BYTES);
+        unconfirmed = ByteBuffer.allocateDirect(slots);
+        for (int slot = 0; slot < slots; slot++) {
+            unconfirmed.put(slot, (byte) 1);
+        }
+    }
+
+    //Maps a file written by writeSnapshot; every row starts unconfirmed (see confirm and dropUnconfirmed)
+    public static OffHeapEmployeeStore openSnapshot(Path file) throws IOException {
+        MappedByteBuffer snapshot;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < SNAPSHOT_HEADER_BYTES || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Employee snapshot " + file + " has an invalid size of " + channel.size() + " bytes");
+            }
+            snapshot = channel.map(FileChannel.MapMode.PRIVATE, 0, channel.size());
+        }
+        if (snapshot.getInt(0) != SNAPSHOT_MAGIC || snapshot.getInt(4) != SNAPSHOT_FORMAT) {
+            throw new IOException("Employee snapshot " + file + " is not in snapshot format " + SNAPSHOT_FORMAT);
+        }
+        long expectedSize = SNAPSHOT_HEADER_BYTES
+                + (long) snapshot.getInt(8) * (Long.BYTES * 2 + Integer.BYTES)
+                + snapshot.getInt(16)
+                + (1L << snapshot.getInt(24)) * (Long.BYTES + Integer.BYTES)
+                + (1L << snapshot.getInt(28)) * Integer.BYTES;
+        if (expectedSize != snapshot.capacity()) {
+            throw new IOException("Employee snapshot " + file + " is truncated");
+        }
+        if (checksum(snapshot) != snapshot.getInt(SNAPSHOT_CRC_OFFSET)) {
+            throw new IOException("Employee snapshot " + file + " fails its checksum");
+        }
+        return new OffHeapEmployeeStore(snapshot);
+    }
+
+    //Copies the sections under the read lock, then writes the copy to a temporary file next to the target and
+    //moves it over the target, so a crash mid-write leaves the previous snapshot in place. Writers only wait for
+    //the copy, not for the disk. Returns the modification count it saved.
+    public long writeSnapshot(Path file) throws IOException {
+        ByteBuffer snapshot;
+        long savedModifications;
+        long stamp = lock.readLock();
+        try {
+            ByteBuffer[] sections = {
+                    ids.slice(0, slots * Long.BYTES),
+                    versions.slice(0, slots * Long.BYTES),
+                    stringOffsets.slice(0, slots * Integer.BYTES),
+                    strings.slice(0, strings.position()),
+                    indexKeys.duplicate().clear(),
+                    indexSlots.duplicate().clear(),
+                    emailBuckets.duplicate().clear()
+            };
+            long size = SNAPSHOT_HEADER_BYTES;
+            for (ByteBuffer section : sections) {
+                size += section.remaining();
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Employee store of " + size + " bytes is too large for a snapshot");
+            }
+            //Off-heap like the store itself, so a large snapshot does not land in the Java heap
+            snapshot = ByteBuffer.allocateDirect((int) size)
+                    .putInt(SNAPSHOT_MAGIC)
+                    .putInt(SNAPSHOT_FORMAT)
+                    .putInt(slots)
+                    .putInt(live)
+                    .putInt(strings.position())
+                    .putInt(garbageBytes)
+                    .putInt(indexBits)
+                    .putInt(emailBits)
+                    .putInt(emailEntries)
+                    .position(SNAPSHOT_HEADER_BYTES);
+            for (ByteBuffer section : sections) {
+                snapshot.put(section);
+            }
+            savedModifications = modifications;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+
+        snapshot.putInt(SNAPSHOT_CRC_OFFSET, checksum(snapshot)).clear();
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, snapshot);
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return savedModifications;
+    }
+
+    //Inserts or replaces the employee; an older version than the stored one (a row streamed by a load that
+    //races with a write) and employees already removed are ignored. A row still unconfirmed since a restore is
+    //always replaced: the snapshot may be older than the table, or from another database altogether.
+    public void put(Employee employee) {
+        byte[] firstName = utf8(employee.getFirstName());
+        byte[] lastName = utf8(employee.getLastName());
+        byte[] email = utf8(employee.getEmail());
+        long stamp = lock.writeLock();
+        try {
+            int slot = find(employee.getId());
+            boolean emailChanged = true;
+            if (slot >= 0) {
+                long version = versions.getLong(slot * Long.BYTES);
+                if (unconfirmed.get(slot) == 0 && (version == DELETED || version > employee.getVersion())) {
+                    return;
+                }
+                if (version == DELETED) {
+                    live++;
+                } else {
+                    garbageBytes += rowBytes(stringOffsets.getInt(slot * Integer.BYTES));
+                    emailChanged = !emailEquals(slot, email);
+                }
+            } else {
+                slot = newSlot(employee.getId());
+                live++;
+            }
+            versions.putLong(slot * Long.BYTES, employee.getVersion());
+            stringOffsets.putInt(slot * Integer.BYTES, appendStrings(firstName, lastName, email));
+            unconfirmed.put(slot, (byte) 0);
+            modifications++;
+            if (emailChanged) {
+                indexEmail(slot, email);
+            }
+            if (garbageBytes > strings.position() / 2) {
+                rewriteStrings();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long id) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = find(id);
+            if (slot < 0) {
+                slot = newSlot(id);
+                stringOffsets.putInt(slot * Integer.BYTES, appendStrings(EMPTY, EMPTY, EMPTY));
+            } else if (versions.getLong(slot * Long.BYTES) != DELETED) {
+                garbageBytes += rowBytes(stringOffsets.getInt(slot * Integer.BYTES));
+                live--;
+            }
+            versions.putLong(slot * Long.BYTES, DELETED);
+            unconfirmed.put(slot, (byte) 0);
+            modifications++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    //Reconciliation after a restore: true when the row is already current, i.e. it has been written since the
+    //restore or the snapshot holds the version the table has. False means the row has to be reloaded.
+    public boolean confirm(long id, long version) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = find(id);
+            if (slot < 0) {
+                return false;
+            }
+            if (unconfirmed.get(slot) == 0) {
+                return true;
+            }
+            if (versions.getLong(slot * Long.BYTES) != version) {
+                return false;
+            }
+            unconfirmed.put(slot, (byte) 0);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    //Ends a reconciliation: rows neither confirmed nor written since the restore are no longer in the table
+    public int dropUnconfirmed() {
+        long stamp = lock.writeLock();
+        try {
+            int dropped = 0;
+            for (int slot = 0; slot < slots; slot++) {
+                if (unconfirmed.get(slot) == 0) {
+                    continue;
+                }
+                unconfirmed.put(slot, (byte) 0);
+                if (versions.getLong(slot * Long.BYTES) != DELETED) {
+                    garbageBytes += rowBytes(stringOffsets.getInt(slot * Integer.BYTES));
+                    versions.putLong(slot * Long.BYTES, DELETED);
+                    live--;
+                    dropped++;
+                }
+            }
+            if (dropped > 0) {
+                modifications++;
+            }
+            return dropped;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public Optional<Employee> get(long id) {
+        long stamp = lock.readLock();
+        try {
+            int slot = find(id);
+            if (slot < 0 || versions.getLong(slot * Long.BYTES) == DELETED) {
+                return Optional.empty();
+            }
+            return Optional.of(read(slot));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public Optional<Employee> getByEmail(String email) {
+        byte[] key = email.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(key);
+        long stamp = lock.readLock();
+        try {
+            int mask = (1 << emailBits) - 1;
+            for (int bucket = emailBucketOf(hash); ; bucket = (bucket + 1) & mask) {
+                int entry = emailBuckets.getInt(bucket * Integer.BYTES);
+                if (entry == 0) {
+                    return Optional.empty();
+                }
+                int slot = entry - 1;
+                if (versions.getLong(slot * Long.BYTES) != DELETED && emailEquals(slot, key)) {
+                    return Optional.of(read(slot));
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    //In insertion order, which is id order for employees loaded from the table and created afterwards
+    public List<Employee> getAll() {
+        long stamp = lock.readLock();
+        try {
+            List<Employee> employees = new ArrayList<>(live);
+            for (int slot = 0; slot < slots; slot++) {
+                if (versions.getLong(slot * Long.BYTES) != DELETED) {
+                    employees.add(read(slot));
+                }
+            }
+            return employees;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return live;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long modifications() {
+        long stamp = lock.readLock();
+        try {
+            return modifications;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    //Direct memory and mapped snapshot pages together
+    public long offHeapBytes() {
+        long stamp = lock.readLock();
+        try {
+            return (long) ids.capacity() + versions.capacity() + stringOffsets.capacity() + unconfirmed.capacity()
+                    + strings.capacity() + indexKeys.capacity() + indexSlots.capacity() + emailBuckets.capacity();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    //Rewrites the string area with only the strings of live rows
+    public void compact() {
+        long stamp = lock.writeLock();
+        try {
+            rewriteStrings();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private Employee read(int slot) {
+        int at = stringOffsets.getInt(slot * Integer.BYTES);
+        String firstName = readString(at);
+        at += 2 + Short.toUnsignedInt(strings.getShort(at));
+        String lastName = readString(at);
+        at += 2 + Short.toUnsignedInt(strings.getShort(at));
+        String email = readString(at);
+        return Employee.builder()
+                .id(ids.getLong(slot * Long.BYTES))
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .version(versions.getLong(slot * Long.BYTES))
+                .build();
+    }
+
+    private String readString(int at) {
+        int length = Short.toUnsignedInt(strings.getShort(at));
+        byte[] bytes = new byte[length];
+        strings.get(at + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int appendStrings(byte[] firstName, byte[] lastName, byte[] email) {
+        int length = 6 + firstName.length + lastName.length + email.length;
+        if (strings.remaining() < length) {
+            strings = grow(strings, strings.position() + length);
+        }
+        int at = strings.position();
+        strings.putShort((short) firstName.length).put(firstName)
+                .putShort((short) lastName.length).put(lastName)
+                .putShort((short) email.length).put(email);
+        return at;
+    }
+
+    //Removed rows all point at one empty row; the email index drops the buckets of old emails on the way
+    private void rewriteStrings() {
+        ByteBuffer previous = strings;
+        strings = ByteBuffer.allocateDirect(Math.max(1024, (previous.position() - garbageBytes) * 2));
+        int emptyRow = appendStrings(EMPTY, EMPTY, EMPTY);
+        for (int slot = 0; slot < slots; slot++) {
+            if (versions.getLong(slot * Long.BYTES) == DELETED) {
+                stringOffsets.putInt(slot * Integer.BYTES, emptyRow);
+                continue;
+            }
+            int from = stringOffsets.getInt(slot * Integer.BYTES);
+            stringOffsets.putInt(slot * Integer.BYTES, strings.position());
+            strings.put(previous.slice(from, rowBytes(previous, from)));
+        }
+        garbageBytes = 0;
+        rebuildEmailIndex();
+    }
+
+    private int rowBytes(int at) {
+        return rowBytes(strings, at);
+    }
+
+    private static int rowBytes(ByteBuffer area, int at) {
+        int end = at;
+        for (int i = 0; i < 3; i++) {
+            end += 2 + Short.toUnsignedInt(area.getShort(end));
+        }
+        return end - at;
+    }
+
+    //Where the email's length prefix is, after firstName and lastName
+    private int emailAt(int slot) {
+        int at = stringOffsets.getInt(slot * Integer.BYTES);
+        at += 2 + Short.toUnsignedInt(strings.getShort(at));
+        return at + 2 + Short.toUnsignedInt(strings.getShort(at));
+    }
+
+    private boolean emailEquals(int slot, byte[] email) {
+        int at = emailAt(slot);
+        if (Short.toUnsignedInt(strings.getShort(at)) != email.length) {
+            return false;
+        }
+        for (int i = 0; i < email.length; i++) {
+            if (strings.get(at + 2 + i) != email[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int newSlot(long id) {
+        if (slots == ids.capacity() / Long.BYTES) {
+            int capacity = Math.max(16, slots * 2);
+            ids = grow(ids, capacity * Long.BYTES);
+            versions = grow(versions, capacity * Long.BYTES);
+            stringOffsets = grow(stringOffsets, capacity * Integer.BYTES);
+            unconfirmed = grow(unconfirmed, capacity);
+        }
+        int slot = slots++;
+        ids.putLong(slot * Long.BYTES, id);
+        //Load factor 1/2 keeps the probe sequences short
+        if (slots * 2 > 1 << indexBits) {
+            createIndex(1 << (indexBits + 1));
+            for (int i = 0; i < slots; i++) {
+                index(ids.getLong(i * Long.BYTES), i);
+            }
+        } else {
+            index(id, slot);
+        }
+        return slot;
+    }
+
+    private int find(long id) {
+        int mask = (1 << indexBits) - 1;
+        for (int bucket = bucketOf(id); ; bucket = (bucket + 1) & mask) {
+            long key = indexKeys.getLong(bucket * Long.BYTES);
+            if (key == id) {
+                return indexSlots.getInt(bucket * Integer.BYTES);
+            }
+            if (key == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private void index(long id, int slot) {
+        int mask = (1 << indexBits) - 1;
+        int bucket = bucketOf(id);
+        while (indexKeys.getLong(bucket * Long.BYTES) != 0) {
+            bucket = (bucket + 1) & mask;
+        }
+        indexKeys.putLong(bucket * Long.BYTES, id);
+        indexSlots.putInt(bucket * Integer.BYTES, slot);
+    }
+
+    private int bucketOf(long id) {
+        return (int) ((id * GOLDEN_RATIO) >>> (Long.SIZE - indexBits));
+    }
+
+    private void createIndex(int buckets) {
+        indexBits = Integer.numberOfTrailingZeros(buckets);
+        //Direct buffers start zeroed, i.e. with every bucket empty
+        indexKeys = ByteBuffer.allocateDirect(buckets * Long.BYTES);
+        indexSlots = ByteBuffer.allocateDirect(buckets * Integer.BYTES);
+    }
+
+    private void indexEmail(int slot, byte[] email) {
+        if ((emailEntries + 1) * 2 > 1 << emailBits) {
+            rebuildEmailIndex();
+            return;
+        }
+        int mask = (1 << emailBits) - 1;
+        int bucket = emailBucketOf(hash(email));
+        while (emailBuckets.getInt(bucket * Integer.BYTES) != 0) {
+            bucket = (bucket + 1) & mask;
+        }
+        emailBuckets.putInt(bucket * Integer.BYTES, slot + 1);
+        emailEntries++;
+    }
+
+    //Only the current email of each live row, at a quarter full so updates have room before the next rebuild
+    private void rebuildEmailIndex() {
+        createEmailIndex(Math.max(16, Integer.highestOneBit(Math.max(1, live * 4 - 1)) << 1));
+        int mask = (1 << emailBits) - 1;
+        for (int slot = 0; slot < slots; slot++) {
+            if (versions.getLong(slot * Long.BYTES) == DELETED) {
+                continue;
+            }
+            int at = emailAt(slot);
+            int bucket = emailBucketOf(hashAt(at + 2, Short.toUnsignedInt(strings.getShort(at))));
+            while (emailBuckets.getInt(bucket * Integer.BYTES) != 0) {
+                bucket = (bucket + 1) & mask;
+            }
+            emailBuckets.putInt(bucket * Integer.BYTES, slot + 1);
+            emailEntries++;
+        }
+    }
+
+    private void createEmailIndex(int buckets) {
+        emailBits = Integer.numberOfTrailingZeros(buckets);
+        emailBuckets = ByteBuffer.allocateDirect(buckets * Integer.BYTES);
+        emailEntries = 0;
+    }
+
+    private int emailBucketOf(long hash) {
+        return (int) ((hash * GOLDEN_RATIO) >>> (Long.SIZE - emailBits));
+    }
+
+    //The same hash over a byte[] and over bytes in the string area
+    private static long hash(byte[] bytes) {
+        long hash = 1;
+        for (byte b : bytes) {
+            hash = 31 * hash + b;
+        }
+        return hash;
+    }
+
+    private long hashAt(int at, int length) {
+        long hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + strings.get(at + i);
+        }
+        return hash;
+    }
+
+    //Copies the whole buffer and keeps its position (the append position of the string area)
+    private static ByteBuffer grow(ByteBuffer buffer, int minCapacity) {
+        ByteBuffer grown = ByteBuffer.allocateDirect(Math.max(minCapacity, buffer.capacity() * 2));
+        grown.put(buffer.duplicate().clear());
+        grown.position(buffer.position());
+        return grown;
+    }
+
+    private static int checksum(ByteBuffer snapshot) {
+        int afterCrc = SNAPSHOT_CRC_OFFSET + Integer.BYTES;
+        CRC32C crc = new CRC32C();
+        crc.update(snapshot.slice(0, SNAPSHOT_CRC_OFFSET));
+        crc.update(snapshot.slice(afterCrc, snapshot.capacity() - afterCrc));
+        return (int) crc.getValue();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value == null ? EMPTY : value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Employee field longer than " + MAX_STRING_BYTES + " bytes");
+        }
+        return bytes;
+    }
+}
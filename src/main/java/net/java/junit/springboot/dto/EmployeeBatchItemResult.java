@@ -0,0 +1,25 @@
+package net.java.junit.springboot.dto;
+
+import net.java.junit.springboot.model.Employee;
+
+public record EmployeeBatchItemResult(int index, Status status, Employee employee, String message) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    public static EmployeeBatchItemResult created(int index, Employee employee){
+        return new EmployeeBatchItemResult(index, Status.CREATED, employee, null);
+    }
+
+    public static EmployeeBatchItemResult duplicate(int index, Employee employee){
+        return new EmployeeBatchItemResult(index, Status.DUPLICATE, employee,
+                "Employee already exist with given email:" + employee.getEmail());
+    }
+
+    public static EmployeeBatchItemResult invalid(int index, Employee employee, String message){
+        return new EmployeeBatchItemResult(index, Status.INVALID, employee, message);
+    }
+}
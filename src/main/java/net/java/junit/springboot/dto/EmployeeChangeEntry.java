@@ -0,0 +1,17 @@
+package net.java.junit.springboot.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
+import net.java.junit.springboot.model.EmployeeChange;
+
+import java.time.Instant;
+
+//employee is the JSON stored in the outbox, written out as is; null for DELETED
+public record EmployeeChangeEntry(long position, EmployeeChangedEvent.Type type, long employeeId,
+                                  @JsonRawValue String employee, Instant occurredAt) {
+
+    public static EmployeeChangeEntry of(EmployeeChange change){
+        return new EmployeeChangeEntry(change.getPosition(), change.getType(), change.getEmployeeId(),
+                change.getPayload(), change.getOccurredAt());
+    }
+}
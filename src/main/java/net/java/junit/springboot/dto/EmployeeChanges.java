@@ -0,0 +1,7 @@
+package net.java.junit.springboot.dto;
+
+import java.util.List;
+
+//next is the since of the following poll: the last position returned, or the same since when nothing changed
+public record EmployeeChanges(List<EmployeeChangeEntry> changes, long next) {
+}
@@ -0,0 +1,11 @@
+package net.java.junit.springboot.dto;
+
+import java.util.List;
+
+//Summary of POST /api/employees/import; errors lists the first rejected rows by line number
+public record EmployeeImportResult(long rows, long created, long duplicates, long invalid,
+                                   List<RowError> errors, long millis, double rowsPerSecond) {
+
+    public record RowError(long line, String message) {
+    }
+}
@@ -0,0 +1,16 @@
+package net.java.junit.springboot.dto;
+
+import java.util.List;
+
+//Either list may be left out
+public record EmployeeLookupRequest(List<Long> ids, List<String> emails) {
+
+    public EmployeeLookupRequest {
+        ids = ids == null ? List.of() : ids;
+        emails = emails == null ? List.of() : emails;
+    }
+
+    public int size(){
+        return ids.size() + emails.size();
+    }
+}
@@ -0,0 +1,9 @@
+package net.java.junit.springboot.dto;
+
+import net.java.junit.springboot.model.Employee;
+
+import java.util.List;
+
+//Employees in request order (ids first, then emails), each employee once even when matched by id and email
+public record EmployeeLookupResult(List<Employee> employees, List<Long> missingIds, List<String> missingEmails) {
+}
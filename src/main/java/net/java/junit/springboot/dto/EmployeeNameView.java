@@ -0,0 +1,4 @@
+package net.java.junit.springboot.dto;
+
+public record EmployeeNameView(long id, String firstName, String lastName) {
+}
@@ -0,0 +1,10 @@
+package net.java.junit.springboot.dto;
+
+import java.util.List;
+
+//Result of GET /api/employees/stats/*: the largest counts first.
+//computedBy is "database" for a GROUP BY query and "fork-join" for an aggregation in the application,
+//parallelism the fork-join workers used (0 for the database) and millis how long the computation took.
+public record EmployeeStats(String stat, String computedBy, int parallelism, List<EmployeeCount> counts,
+                            double millis) {
+}
@@ -0,0 +1,4 @@
+package net.java.junit.springboot.dto;
+
+public record EmployeeVersionView(long id, long version) {
+}
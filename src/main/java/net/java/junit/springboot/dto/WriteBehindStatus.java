@@ -0,0 +1,4 @@
+package net.java.junit.springboot.dto;
+
+public record WriteBehindStatus(int queued, int capacity, long oldestQueuedMillis, long committed, long failed) {
+}
@@ -0,0 +1,23 @@
+package net.java.junit.springboot.dto;
+
+//Tracking record for a write accepted in write-behind mode; employeeId is known once the write is committed
+public record WriteTicket(long ticket, Status status, Long employeeId, String message) {
+
+    public enum Status {
+        QUEUED,
+        COMMITTED,
+        FAILED
+    }
+
+    public static WriteTicket queued(long ticket, Long employeeId){
+        return new WriteTicket(ticket, Status.QUEUED, employeeId, null);
+    }
+
+    public static WriteTicket committed(long ticket, long employeeId){
+        return new WriteTicket(ticket, Status.COMMITTED, employeeId, null);
+    }
+
+    public static WriteTicket failed(long ticket, Long employeeId, String message){
+        return new WriteTicket(ticket, Status.FAILED, employeeId, message);
+    }
+}
@@ -0,0 +1,56 @@
+package net.java.junit.springboot.etag;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
+import net.java.junit.springboot.model.Employee;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+//Serialized JSON per employee and version, so repeated GET /api/employees/{id} skips Jackson;
+//set employee.json-cache.enabled=true to use it
+@Component
+@ConditionalOnProperty(name = "employee.json-cache.enabled", havingValue = "true")
+public class EmployeeJsonCache {
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Long, VersionedJson> json;
+
+    public EmployeeJsonCache(ObjectMapper objectMapper,
+                             @Value("${employee.json-cache.maximum-size:10000}") long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.json = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    public Optional<byte[]> get(long id, long version) {
+        VersionedJson cached = json.getIfPresent(id);
+        return cached != null && cached.version() == version ? Optional.of(cached.bytes()) : Optional.empty();
+    }
+
+    public byte[] put(Employee employee) {
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(employee);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        json.put(employee.getId(), new VersionedJson(employee.getVersion(), bytes));
+        return bytes;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        json.invalidate(event.id());
+    }
+
+    private record VersionedJson(long version, byte[] bytes) {
+    }
+}
@@ -0,0 +1,59 @@
+package net.java.junit.springboot.etag;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
+import net.java.junit.springboot.model.Employee;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+//Versions the controller can answer If-None-Match from without a repository call:
+//the last known @Version per employee and a counter that moves on every committed write.
+//Only writes made through this instance are seen, so with several instances behind a balancer
+//the tags must be compared on the instance that issued them (sticky sessions) or left disabled.
+@Component
+public class EmployeeVersionTracker {
+
+    static final int MAX_TRACKED_EMPLOYEES = 100_000;
+
+    //Deleted ids are kept as tombstones so a read racing with the delete cannot bring them back
+    private static final long DELETED = -1;
+
+    //Part of every collection ETag so tags handed out before a restart never match again
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong collectionVersion = new AtomicLong();
+
+    private final Cache<Long, Long> employeeVersions = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_EMPLOYEES)
+            .build();
+
+    public String collectionETag() {
+        return "\"" + epoch + "-" + collectionVersion.get() + "\"";
+    }
+
+    public OptionalLong employeeVersion(long id) {
+        Long version = employeeVersions.getIfPresent(id);
+        return version == null || version == DELETED ? OptionalLong.empty() : OptionalLong.of(version);
+    }
+
+    public void recordRead(Employee employee) {
+        employeeVersions.asMap().merge(employee.getId(), employee.getVersion(),
+                (known, read) -> known == DELETED ? DELETED : Math.max(known, read));
+    }
+
+    //Runs after commit, or straight away for writes outside a transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.type() == EmployeeChangedEvent.Type.DELETED) {
+            employeeVersions.put(event.id(), DELETED);
+        } else {
+            employeeVersions.asMap().merge(event.id(), event.employee().getVersion(),
+                    (known, written) -> known == DELETED ? DELETED : Math.max(known, written));
+        }
+        collectionVersion.incrementAndGet();
+    }
+}
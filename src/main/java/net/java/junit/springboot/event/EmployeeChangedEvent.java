@@ -0,0 +1,23 @@
+package net.java.junit.springboot.event;
+
+import net.java.junit.springboot.model.Employee;
+
+//Published by the service after every successful write; employee is null for DELETED
+public record EmployeeChangedEvent(Type type, long id, Employee employee) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static EmployeeChangedEvent created(Employee employee) {
+        return new EmployeeChangedEvent(Type.CREATED, employee.getId(), employee);
+    }
+
+    public static EmployeeChangedEvent updated(Employee employee) {
+        return new EmployeeChangedEvent(Type.UPDATED, employee.getId(), employee);
+    }
+
+    public static EmployeeChangedEvent deleted(long id) {
+        return new EmployeeChangedEvent(Type.DELETED, id, null);
+    }
+}
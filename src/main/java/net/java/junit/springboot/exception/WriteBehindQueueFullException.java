@@ -0,0 +1,8 @@
+package net.java.junit.springboot.exception;
+
+public class WriteBehindQueueFullException extends RuntimeException{
+
+    public WriteBehindQueueFullException(String message){
+        super(message);
+    }
+}
@@ -2,6 +2,9 @@ package net.java.junit.springboot.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import net.java.junit.springboot.config.SecondLevelCacheConfig;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Setter
 @Getter
@@ -9,11 +12,22 @@ import lombok.*;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "employees")
+//Read-write: a cached row is locked while a transaction updates it, so readers never see uncommitted state
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.EMPLOYEE_REGION)
+@Table(name = "employees",
+        uniqueConstraints = @UniqueConstraint(name = Employee.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        indexes = @Index(name = "idx_employees_first_name_last_name", columnList = "first_name, last_name"))
 public class Employee {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_employees_email";
+
+    //Pooled sequence instead of IDENTITY so Hibernate can batch inserts
+    //Spring Data's @Id maps the same class for the R2DBC stack; JPA ignores it
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @org.springframework.data.annotation.Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50)
     private long id;
 
     @Column(name="first_name", nullable = false)
@@ -25,4 +39,7 @@ public class Employee {
     @Column(nullable = false)
     private String email;
 
+    @Version
+    private long version;
+
 }
@@ -0,0 +1,46 @@
+package net.java.junit.springboot.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
+
+import java.time.Instant;
+
+//Transactional outbox: one row per employee write, inserted in the writing transaction (EmployeeOutbox).
+//position stays null until the relay publishes the row; positions are handed out in publish order, so unlike
+//the ids they never show up out of order for a reader following the feed.
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "employee_changes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_employee_changes_position", columnNames = "position"))
+public class EmployeeChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_changes_seq")
+    @SequenceGenerator(name = "employee_changes_seq", sequenceName = "employee_changes_seq", allocationSize = 50)
+    private long id;
+
+    private Long position;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private EmployeeChangedEvent.Type type;
+
+    @Column(name = "employee_id", nullable = false)
+    private long employeeId;
+
+    //The employee as JSON, null for DELETED
+    @Column(length = 4000)
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+}
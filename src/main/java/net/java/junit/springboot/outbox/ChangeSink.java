@@ -0,0 +1,13 @@
+package net.java.junit.springboot.outbox;
+
+import net.java.junit.springboot.dto.EmployeeChangeEntry;
+
+import java.util.List;
+
+//Where the relay publishes outbox batches, e.g. a message broker; every ChangeSink bean gets every batch.
+//Called after the batch's positions are committed: throwing makes the relay offer the same batch again before
+//anything newer, so a sink sees a batch at least once and should ignore positions it already has. A batch not
+//yet delivered when the process stops is not offered again; it stays readable from the feed by position.
+public interface ChangeSink {
+    void publish(List<EmployeeChangeEntry> batch);
+}
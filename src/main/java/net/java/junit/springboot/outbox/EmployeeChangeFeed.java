@@ -0,0 +1,90 @@
+package net.java.junit.springboot.outbox;
+
+import net.java.junit.springboot.dto.EmployeeChangeEntry;
+import net.java.junit.springboot.dto.EmployeeChanges;
+import net.java.junit.springboot.repository.EmployeeChangeRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+//Published changes by position for GET /api/employees/changes. A poll with nothing new is parked without
+//a thread until the relay publishes past its position or the long-poll timeout returns it empty.
+public class EmployeeChangeFeed {
+
+    private final EmployeeChangeRepository repository;
+
+    private final Duration longPollTimeout;
+
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    private volatile long lastPosition;
+
+    private volatile long firstPosition;
+
+    public EmployeeChangeFeed(EmployeeChangeRepository repository, Duration longPollTimeout) {
+        this.repository = repository;
+        this.longPollTimeout = longPollTimeout;
+    }
+
+    public EmployeeChanges read(long since, int limit) {
+        List<EmployeeChangeEntry> changes = repository.findByPositionGreaterThanOrderByPositionAsc(since, Limit.of(limit))
+                .stream()
+                .map(EmployeeChangeEntry::of)
+                .toList();
+        return new EmployeeChanges(changes, changes.isEmpty() ? since : changes.get(changes.size() - 1).position());
+    }
+
+    public DeferredResult<EmployeeChanges> poll(long since, int limit) {
+        DeferredResult<EmployeeChanges> result = new DeferredResult<>(longPollTimeout.toMillis(),
+                new EmployeeChanges(List.of(), since));
+        EmployeeChanges changes = read(since, limit);
+        if (!changes.changes().isEmpty()) {
+            result.setResult(changes);
+            return result;
+        }
+        Waiter waiter = new Waiter(new Cursor(since, limit), result);
+        waiters.add(waiter);
+        result.onCompletion(() -> waiters.remove(waiter));
+        //The relay may have published between the read and registering the waiter
+        if (lastPosition > since) {
+            published(lastPosition);
+        }
+        return result;
+    }
+
+    //True when changes after since were already removed by the retention, the consumer has to start over
+    public boolean isExpired(long since) {
+        return since < firstPosition - 1;
+    }
+
+    public long firstPosition() {
+        return firstPosition;
+    }
+
+    //Called by the relay after each committed batch; waiters at the same position share one read
+    void published(long position) {
+        lastPosition = position;
+        Map<Cursor, EmployeeChanges> reads = new HashMap<>();
+        for (Waiter waiter : waiters) {
+            if (waiter.cursor.since() < position && waiters.remove(waiter)) {
+                waiter.result.setResult(reads.computeIfAbsent(waiter.cursor, cursor -> read(cursor.since(), cursor.limit())));
+            }
+        }
+    }
+
+    void retainedFrom(long position) {
+        firstPosition = position;
+    }
+
+    private record Cursor(long since, int limit) {
+    }
+
+    private record Waiter(Cursor cursor, DeferredResult<EmployeeChanges> result) {
+    }
+}
@@ -0,0 +1,43 @@
+package net.java.junit.springboot.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
+import net.java.junit.springboot.model.EmployeeChange;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+//Appends every EmployeeChangedEvent to the outbox table. Runs before the writing transaction commits,
+//so the change row is committed or rolled back together with the employee row it describes.
+public class EmployeeOutbox {
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    public EmployeeOutbox(EntityManager entityManager, ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        entityManager.persist(EmployeeChange.builder()
+                .type(event.type())
+                .employeeId(event.id())
+                .payload(event.employee() == null ? null : toJson(event))
+                .occurredAt(Instant.now())
+                .build());
+    }
+
+    private String toJson(EmployeeChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.employee());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Employee " + event.id() + " cannot be written to the outbox", e);
+        }
+    }
+}
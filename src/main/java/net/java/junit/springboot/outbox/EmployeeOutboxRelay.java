@@ -0,0 +1,155 @@
+package net.java.junit.springboot.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import net.java.junit.springboot.dto.EmployeeChangeEntry;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
+import net.java.junit.springboot.model.EmployeeChange;
+import net.java.junit.springboot.repository.EmployeeChangeRepository;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+//Single relay thread: takes committed, unpublished outbox rows in id order and gives them the next positions in
+//one short transaction per batch, then hands the committed batch to the sinks, so no transaction or connection
+//is held while a sink talks to a broker. A batch a sink rejects is retried before any newer rows are taken.
+//A commit of an employee write wakes the relay straight away, poll-interval only matters for rows committed by
+//another instance. Published rows older than the retention are deleted about once a minute.
+@Slf4j
+public class EmployeeOutboxRelay implements SmartLifecycle {
+
+    private static final long CLEANUP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final EmployeeChangeRepository repository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final List<ChangeSink> sinks;
+
+    private final EmployeeChangeFeed feed;
+
+    private final OutboxProperties properties;
+
+    //Committed batches not yet accepted by every sink, oldest first; only touched by the relay thread
+    private final Deque<List<EmployeeChangeEntry>> undelivered = new ArrayDeque<>();
+
+    private volatile boolean running;
+
+    private volatile Thread relay;
+
+    public EmployeeOutboxRelay(EmployeeChangeRepository repository, TransactionTemplate transactionTemplate,
+                               List<ChangeSink> sinks, EmployeeChangeFeed feed, OutboxProperties properties) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.sinks = sinks;
+        this.feed = feed;
+        this.properties = properties;
+    }
+
+    //Publishes up to batch-size changes and returns how many
+    public int relayBatch() {
+        //While a sink keeps failing no new positions are assigned, so at most one batch waits here
+        deliverUndelivered();
+        List<EmployeeChangeEntry> batch = transactionTemplate.execute(status -> {
+            List<EmployeeChange> pending = repository.findByPositionIsNullOrderByIdAsc(Limit.of(properties.batchSize()));
+            if (pending.isEmpty()) {
+                return List.of();
+            }
+            long position = repository.findLastPosition();
+            Instant publishedAt = Instant.now();
+            List<EmployeeChangeEntry> entries = new ArrayList<>(pending.size());
+            for (EmployeeChange change : pending) {
+                change.setPosition(++position);
+                change.setPublishedAt(publishedAt);
+                entries.add(EmployeeChangeEntry.of(change));
+            }
+            return entries;
+        });
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        feed.published(batch.get(batch.size() - 1).position());
+        undelivered.add(batch);
+        deliverUndelivered();
+        return batch.size();
+    }
+
+    public int deleteExpired() {
+        long lastPosition = repository.findLastPosition();
+        int deleted = transactionTemplate.execute(status ->
+                repository.deletePublishedBefore(Instant.now().minus(properties.retention()), lastPosition));
+        feed.retainedFrom(repository.findFirstPosition());
+        return deleted;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        LockSupport.unpark(relay);
+    }
+
+    @Override
+    public void start() {
+        feed.retainedFrom(repository.findFirstPosition());
+        feed.published(repository.findLastPosition());
+        running = true;
+        Thread thread = new Thread(this::runRelay, "employee-outbox-relay");
+        thread.setDaemon(true);
+        relay = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = relay;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(properties.pollInterval().toMillis() + 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void deliverUndelivered() {
+        List<EmployeeChangeEntry> batch;
+        while ((batch = undelivered.peek()) != null) {
+            for (ChangeSink sink : sinks) {
+                sink.publish(batch);
+            }
+            undelivered.poll();
+        }
+    }
+
+    private void runRelay() {
+        long lastCleanup = System.nanoTime();
+        while (running) {
+            int published = 0;
+            try {
+                published = relayBatch();
+                if (System.nanoTime() - lastCleanup >= CLEANUP_INTERVAL_NANOS) {
+                    lastCleanup = System.nanoTime();
+                    deleteExpired();
+                }
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay failed, retrying in {}", properties.pollInterval(), e);
+            }
+            //A full batch means there may be more waiting
+            if (published < properties.batchSize()) {
+                LockSupport.parkNanos(properties.pollInterval().toNanos());
+            }
+        }
+    }
+}
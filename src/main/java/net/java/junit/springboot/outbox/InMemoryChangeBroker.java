@@ -0,0 +1,26 @@
+package net.java.junit.springboot.outbox;
+
+import net.java.junit.springboot.dto.EmployeeChangeEntry;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+//In-process stand-in for a message broker: hands every published batch to its subscribers on the relay thread
+public class InMemoryChangeBroker implements ChangeSink {
+
+    private final List<Consumer<List<EmployeeChangeEntry>>> subscribers = new CopyOnWriteArrayList<>();
+
+    public void subscribe(Consumer<List<EmployeeChangeEntry>> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(Consumer<List<EmployeeChangeEntry>> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    @Override
+    public void publish(List<EmployeeChangeEntry> batch) {
+        subscribers.forEach(subscriber -> subscriber.accept(batch));
+    }
+}
@@ -0,0 +1,20 @@
+package net.java.junit.springboot.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+//employee.outbox.* settings
+//batch-size:        changes published per relay transaction
+//poll-interval:     how often the relay looks for changes when no commit has woken it
+//retention:         how long published changes stay readable through GET /api/employees/changes
+//long-poll-timeout: how long a poll without new changes is held open before it returns empty
+@ConfigurationProperties("employee.outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("1d") Duration retention,
+        @DefaultValue("25s") Duration longPollTimeout) {
+}
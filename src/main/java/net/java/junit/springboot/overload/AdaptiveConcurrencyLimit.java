@@ -0,0 +1,136 @@
+package net.java.junit.springboot.overload;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+//Concurrency limit that follows latency (gradient, in the style of Netflix's Gradient2).
+//Completed requests are summed per window; when a window closes, its average latency (short RTT) is
+//compared with a slow moving average (long RTT). While the short RTT stays within rtt-tolerance of the
+//long one the limit grows by about sqrt(limit), once requests queue up and latency rises it shrinks
+//in proportion, at most by half. A failed request (5xx) cuts the limit by 10%.
+//Acquire and release only touch atomics; the window is closed by the one release that wins the CAS.
+public class AdaptiveConcurrencyLimit {
+
+    private static final double SMOOTHING = 0.2;
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    //Windows it takes the long RTT to move most of the way towards a new level
+    private static final int LONG_WINDOWS = 20;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double rttTolerance;
+
+    private final long windowNanos;
+
+    private final int minWindowSamples;
+
+    private final LongSupplier clock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+
+    //Written only while closing a window
+    private volatile double estimatedLimit;
+
+    private volatile double longRttNanos;
+
+    private final LongAdder rttSumNanos = new LongAdder();
+
+    private final LongAdder samples = new LongAdder();
+
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    private final AtomicLong windowStart;
+
+    public AdaptiveConcurrencyLimit(OverloadProperties properties) {
+        this(properties.initialLimit(), properties.minLimit(), properties.maxLimit(), properties.rttTolerance(),
+                properties.window().toNanos(), properties.minWindowSamples(), System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance,
+                             long windowNanos, int minWindowSamples, LongSupplier clock) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.windowNanos = windowNanos;
+        this.minWindowSamples = minWindowSamples;
+        this.clock = clock;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        this.estimatedLimit = limit;
+        this.windowStart = new AtomicLong(clock.getAsLong());
+    }
+
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        peakInFlight.accumulateAndGet(current + 1, Math::max);
+        return true;
+    }
+
+    public void release(long rttNanos, boolean failedRequest) {
+        inFlight.decrementAndGet();
+        if (failedRequest) {
+            failed.set(true);
+        } else {
+            rttSumNanos.add(rttNanos);
+            samples.increment();
+        }
+        long now = clock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && (samples.sum() >= minWindowSamples || failed.get())
+                && windowStart.compareAndSet(start, now)) {
+            closeWindow();
+        }
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void closeWindow() {
+        long count = samples.sumThenReset();
+        long rttSum = rttSumNanos.sumThenReset();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        double current = estimatedLimit;
+        double next;
+        if (failed.getAndSet(false)) {
+            next = current * BACKOFF_RATIO;
+        } else {
+            double shortRtt = (double) rttSum / count;
+            double longRtt = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) / LONG_WINDOWS;
+            //Load went away: let the long RTT come down quickly instead of over many windows
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+            longRttNanos = longRtt;
+            //A limit that is not being used says nothing about whether a larger one would be safe
+            if (peak < current / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+            double target = current * gradient + Math.sqrt(current);
+            next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(next, maxLimit));
+        limit = (int) estimatedLimit;
+    }
+}
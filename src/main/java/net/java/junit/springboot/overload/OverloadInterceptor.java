@@ -0,0 +1,123 @@
+package net.java.junit.springboot.overload;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//Refuses requests before the handler runs: 429 when the client is over its rate, 503 when the route is at its
+//concurrency limit, both with Retry-After and without touching the service or the connection pool.
+//Runs as an interceptor rather than a filter so the route is the mapped pattern (GET /api/employees/{id}).
+public class OverloadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT = OverloadInterceptor.class.getName() + ".permit";
+
+    private final OverloadProtection protection;
+
+    public OverloadInterceptor(OverloadProtection protection) {
+        this.protection = protection;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        //Async dispatches (streaming responses) still hold the permit of their first dispatch
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        OverloadProtection.Route route = protection.route(
+                request.getMethod() + " " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+
+        long waitNanos = protection.tryAcquireRate(clientOf(request));
+        if (waitNanos > 0) {
+            route.rateLimited();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, TimeUnit.NANOSECONDS.toSeconds(waitNanos - 1) + 1);
+            return false;
+        }
+        if (!route.limit().tryAcquire()) {
+            route.shed();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, Math.max(1, protection.properties().retryAfter().toSeconds()));
+            return false;
+        }
+        request.setAttribute(PERMIT, new Permit(route.limit(), System.nanoTime()));
+        return true;
+    }
+
+    //Streaming responses complete outside the dispatch, so the permit is also returned when the async request ends
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(PERMIT) instanceof Permit permit && request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(permit);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT) instanceof Permit permit) {
+            permit.release(ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    //The authenticated user, the client header of a trusted proxy if one is configured, else the remote address
+    //(behind a proxy, set server.forward-headers-strategy). Never a header callers choose freely: every request
+    //could pick a fresh bucket
+    private String clientOf(HttpServletRequest request) {
+        String client = request.getRemoteUser();
+        String clientHeader = protection.properties().clientHeader();
+        if (client == null && clientHeader != null) {
+            client = request.getHeader(clientHeader);
+        }
+        return client != null ? client : request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds) {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    }
+
+    private static final class Permit implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimit limit;
+
+        private final long startNanos;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(AdaptiveConcurrencyLimit limit, long startNanos) {
+            this.limit = limit;
+            this.startNanos = startNanos;
+        }
+
+        void release(boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                limit.release(System.nanoTime() - startNanos, failed);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
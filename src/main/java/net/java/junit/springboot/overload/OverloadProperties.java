@@ -0,0 +1,33 @@
+package net.java.junit.springboot.overload;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+//employee.overload.* settings
+//permits-per-second:  sustained request rate per client, over all employee routes
+//burst:               requests a client may send at once before permits-per-second applies
+//client-header:       header a trusted proxy or gateway sets to the authenticated client, keying the rate instead of
+//                     the remote address; only for deployments where every request passes that proxy
+//max-clients:         clients whose rate is tracked at once, the least recently seen are forgotten first
+//initial-limit:       concurrent requests per route before the first latency samples adjust it
+//min-limit/max-limit: bounds of the adaptive concurrency limit
+//rtt-tolerance:       how far latency may rise above its long-term average before the limit shrinks
+//window:              how often the limit is recomputed, given at least min-window-samples completed requests
+//retry-after:         Retry-After sent with 503 when a route is at its concurrency limit
+@ConfigurationProperties("employee.overload")
+public record OverloadProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100") double permitsPerSecond,
+        @DefaultValue("200") int burst,
+        String clientHeader,
+        @DefaultValue("100000") long maxClients,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("1.5") double rttTolerance,
+        @DefaultValue("100ms") Duration window,
+        @DefaultValue("10") int minWindowSamples,
+        @DefaultValue("1s") Duration retryAfter) {
+}
@@ -0,0 +1,122 @@
+package net.java.junit.springboot.overload;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+//Limiter state shared by all requests: one token bucket per client and one adaptive concurrency limit per route.
+//Routes show up as they are first called, so their meters are registered then rather than in bindTo.
+public class OverloadProtection implements MeterBinder {
+
+    private final OverloadProperties properties;
+
+    private final LongSupplier clock;
+
+    private final Cache<String, TokenBucket> clients;
+
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry registry;
+
+    public OverloadProtection(OverloadProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    OverloadProtection(OverloadProperties properties, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(properties.maxClients())
+                .build();
+    }
+
+    //0 when the client may go ahead, otherwise how long until it has a permit again
+    public long tryAcquireRate(String client) {
+        long now = clock.getAsLong();
+        return clients.get(client, key -> new TokenBucket(properties.permitsPerSecond(), properties.burst(), now))
+                .tryAcquire(now);
+    }
+
+    public Route route(String name) {
+        Route route = routes.get(name);
+        if (route != null) {
+            return route;
+        }
+        return routes.computeIfAbsent(name, key -> {
+            Route created = new Route(key, new AdaptiveConcurrencyLimit(properties));
+            if (registry != null) {
+                created.register(registry);
+            }
+            return created;
+        });
+    }
+
+    public OverloadProperties properties() {
+        return properties;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.overload.clients", clients, Cache::estimatedSize)
+                .description("Clients whose request rate is being tracked")
+                .register(registry);
+        this.registry = registry;
+        routes.values().forEach(route -> route.register(registry));
+    }
+
+    public static final class Route {
+
+        private final String name;
+
+        private final AdaptiveConcurrencyLimit limit;
+
+        private final LongAdder rateLimited = new LongAdder();
+
+        private final LongAdder shed = new LongAdder();
+
+        Route(String name, AdaptiveConcurrencyLimit limit) {
+            this.name = name;
+            this.limit = limit;
+        }
+
+        public AdaptiveConcurrencyLimit limit() {
+            return limit;
+        }
+
+        public void rateLimited() {
+            rateLimited.increment();
+        }
+
+        public void shed() {
+            shed.increment();
+        }
+
+        //Registering twice (a route created while bindTo runs) returns the meters already there
+        private void register(MeterRegistry registry) {
+            Gauge.builder("employee.overload.limit", limit, AdaptiveConcurrencyLimit::limit)
+                    .tag("route", name)
+                    .description("Adaptive concurrency limit of the route")
+                    .register(registry);
+            Gauge.builder("employee.overload.in.flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                    .tag("route", name)
+                    .description("Requests of the route currently being handled")
+                    .register(registry);
+            FunctionCounter.builder("employee.overload.rejected", rateLimited, LongAdder::sum)
+                    .tags("route", name, "reason", "rate")
+                    .description("Requests refused with 429 or 503")
+                    .register(registry);
+            FunctionCounter.builder("employee.overload.rejected", shed, LongAdder::sum)
+                    .tags("route", name, "reason", "concurrency")
+                    .description("Requests refused with 429 or 503")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package net.java.junit.springboot.overload;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+//Token bucket kept as a single "theoretical arrival time" (GCRA), so taking a permit is one CAS and
+//there is no refill task. Every permit moves that time one emission interval into the future; a request
+//is refused while it would end up more than burst intervals ahead of now.
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+
+    private final long burstToleranceNanos;
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    //0 when a permit was taken, otherwise how long until the next one is available
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, nowNanos) + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package net.java.junit.springboot.repository;
+
+import net.java.junit.springboot.model.EmployeeChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface EmployeeChangeRepository extends JpaRepository<EmployeeChange, Long> {
+
+    //Committed changes the relay has not published yet, in the order they were written
+    List<EmployeeChange> findByPositionIsNullOrderByIdAsc(Limit limit);
+
+    List<EmployeeChange> findByPositionGreaterThanOrderByPositionAsc(long position, Limit limit);
+
+    @Query("select coalesce(max(c.position), 0) from EmployeeChange c")
+    long findLastPosition();
+
+    @Query("select coalesce(min(c.position), 0) from EmployeeChange c")
+    long findFirstPosition();
+
+    //The last published change is always kept, the next position is counted on from it
+    @Modifying
+    @Query("delete from EmployeeChange c where c.publishedAt < :cutoff and c.position < :lastPosition")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff, @Param("lastPosition") long lastPosition);
+}
@@ -1,29 +1,119 @@
 package net.java.junit.springboot.repository;
 
+import jakarta.persistence.QueryHint;
+import net.java.junit.springboot.config.SecondLevelCacheConfig;
+import net.java.junit.springboot.dto.EmployeeCount;
+import net.java.junit.springboot.dto.EmployeeNameView;
+import net.java.junit.springboot.dto.EmployeeVersionView;
 import net.java.junit.springboot.model.Employee;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+//Spring Data only makes the inherited CRUD methods transactional; the query methods declared here get
+//read-only transactions from this annotation, so a call outside a service transaction can go to a read replica
+@Transactional(readOnly = true)
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     Optional<Employee> findByEmail(String email);
 
+    List<Employee> findByEmailIn(Collection<String> emails);
+
     //Define custom query using JPQL with index parameter
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.EMPLOYEE_FINDER_REGION)
+    })
     @Query("select e from Employee e where e.firstName = ?1 and e.lastName = ?2")
     Employee findByJPQL(String firstName, String lastName);
 
     //Define custom query using JPQL with named parameter
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.EMPLOYEE_FINDER_REGION)
+    })
     @Query("select e from Employee e where e.firstName =:firstName and e.lastName =:lastName")
     Employee findByNamedParams(@Param("firstName") String firstName, @Param("lastName") String lastName);
 
     //Define custom query using native sql query with indexed params
+    //Native results are only invalidated by writes to the declared tables, hence the query space
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.EMPLOYEE_FINDER_REGION),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "employees")
+    })
     @Query(value = "select * from employees e where e.first_name =?1 and e.last_name = ?2", nativeQuery = true)
     Employee findByNativeSQL(String firstName, String lastName);
 
     //Define custom query using native sql query with named params
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.EMPLOYEE_FINDER_REGION),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "employees")
+    })
     @Query(value = "select * from employees e where e.first_name =:firstName and e.last_name =:lastName", nativeQuery = true)
     Employee findByNativeSQLWithNamedParams(@Param("firstName") String firstName,@Param("lastName") String lastName);
+
+    //Whole-table and page reads do not go into the second-level cache either, see streamAll
+    @Override
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS"))
+    List<Employee> findAll();
+
+    //Keyset (seek) pagination: next page of employees after the given id
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS"))
+    @Query("select e from Employee e where e.id > :afterId order by e.id")
+    List<Employee> findNextPage(@Param("afterId") long afterId, Limit limit);
+
+    //Forward-only cursor over all employees, read in fixed-size fetch batches;
+    //a full scan does not go into the second-level cache, where it would evict the rows that are actually hot
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query("select e from Employee e order by e.id")
+    Stream<Employee> streamAll();
+
+    //Id and version of every employee, to tell which rows of a restored snapshot are out of date
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new net.java.junit.springboot.dto.EmployeeVersionView(e.id, e.version) from Employee e order by e.id")
+    Stream<EmployeeVersionView> streamVersions();
+
+    //Aggregations for GET /api/employees/stats, grouped by the database so only the counts cross the wire
+    @Query("select new net.java.junit.springboot.dto.EmployeeCount(lower(substring(e.email, locate('@', e.email) + 1)), count(e)) " +
+            "from Employee e group by lower(substring(e.email, locate('@', e.email) + 1)) " +
+            "order by count(e) desc, lower(substring(e.email, locate('@', e.email) + 1))")
+    List<EmployeeCount> countByEmailDomain(Limit limit);
+
+    @Query("select new net.java.junit.springboot.dto.EmployeeCount(e.lastName, count(e)) " +
+            "from Employee e group by e.lastName order by count(e) desc, e.lastName")
+    List<EmployeeCount> countByLastName(Limit limit);
+
+    @Query("select min(e.id) from Employee e")
+    Optional<Long> findMinId();
+
+    @Query("select max(e.id) from Employee e")
+    Optional<Long> findMaxId();
+
+    //One chunk of an aggregation split by id range: from inclusive, to exclusive
+    @Query("select new net.java.junit.springboot.dto.EmployeeNameView(e.id, e.firstName, e.lastName) " +
+            "from Employee e where e.id >= :from and e.id < :to")
+    List<EmployeeNameView> findNamesInIdRange(@Param("from") long from, @Param("to") long to);
+
+    //DTO projections: select only the projected columns and never create managed entities
+    <T> List<T> findAllByOrderByIdAsc(Class<T> type);
+
+    <T> List<T> findByIdGreaterThanOrderByIdAsc(long afterId, Limit limit, Class<T> type);
+
+    <T> Optional<T> findProjectedById(long id, Class<T> type);
 }
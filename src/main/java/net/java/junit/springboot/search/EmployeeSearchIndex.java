@@ -0,0 +1,287 @@
+package net.java.junit.springboot.search;
+
+import jakarta.persistence.EntityManager;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.repository.EmployeeRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+//In-memory prefix index over firstName, lastName and email for type-ahead search.
+//Every token prefix (up to MAX_PREFIX_LENGTH chars) maps to a sorted long[] of employee ids,
+//so a query is a few map lookups plus a posting list intersection and never touches the database.
+//The index is loaded once the application is ready and then follows EmployeeChangedEvent.
+@Component
+public class EmployeeSearchIndex {
+
+    //Longer query tokens are looked up by this prefix and verified against the stored tokens
+    static final int MAX_PREFIX_LENGTH = 12;
+
+    private static final Comparator<Hit> BY_RANK = Comparator.comparingInt(Hit::score)
+            .thenComparing(Comparator.comparingLong(Hit::id).reversed());
+
+    private final EmployeeRepository employeeRepository;
+
+    private final EntityManager entityManager;
+
+    private final Map<String, LongPostings> postings = new HashMap<>();
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    //Tombstones for the ids removed while load() streams the table, null outside load(): the stream can still
+    //return a row after its delete was indexed, and ids are never reused, so such a row is dropped
+    private Set<Long> removedWhileLoading;
+
+    public EmployeeSearchIndex(EmployeeRepository employeeRepository, EntityManager entityManager) {
+        this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            employees.forEach(employee -> {
+                index(employee, true);
+                entityManager.detach(employee);
+            });
+        } finally {
+            lock.writeLock().lock();
+            try {
+                removedWhileLoading = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    //Runs after commit, or straight away for writes outside a transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.type() == EmployeeChangedEvent.Type.DELETED) {
+            remove(event.id());
+        } else {
+            put(event.employee());
+        }
+    }
+
+    public void put(Employee employee) {
+        index(employee, false);
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            if (removedWhileLoading != null) {
+                removedWhileLoading.add(id);
+            }
+            Entry previous = entries.remove(id);
+            if (previous != null) {
+                unindex(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Employee employee, boolean streamed) {
+        Entry entry = Entry.of(employee);
+        lock.writeLock().lock();
+        try {
+            if (streamed && removedWhileLoading != null && removedWhileLoading.contains(entry.employee().getId())) {
+                return;
+            }
+            Entry previous = entries.get(entry.employee().getId());
+            //A row streamed by load() can be older than a change that was already indexed
+            if (previous != null && previous.employee().getVersion() > entry.employee().getVersion()) {
+                return;
+            }
+            if (previous != null) {
+                unindex(previous);
+            }
+            entries.put(entry.employee().getId(), entry);
+            for (String key : entry.keys()) {
+                postings.computeIfAbsent(key, k -> new LongPostings()).add(entry.employee().getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //All query tokens must match (AND); name matches rank above email matches, exact tokens above prefixes
+    public List<Employee> search(String query, int limit) {
+        String[] queryTokens = tokenize(query).toArray(String[]::new);
+        if (queryTokens.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            LongPostings[] lists = new LongPostings[queryTokens.length];
+            for (int i = 0; i < queryTokens.length; i++) {
+                lists[i] = postings.get(keyOf(queryTokens[i]));
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(LongPostings::size));
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, BY_RANK);
+            LongPostings smallest = lists[0];
+            candidates:
+            for (int i = 0; i < smallest.size(); i++) {
+                long id = smallest.get(i);
+                for (int j = 1; j < lists.length; j++) {
+                    if (!lists[j].contains(id)) {
+                        continue candidates;
+                    }
+                }
+                int score = entries.get(id).score(queryTokens);
+                if (score > 0) {
+                    top.offer(new Hit(id, score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+
+            List<Employee> results = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                results.add(copyOf(entries.get(top.poll().id()).employee()));
+            }
+            Collections.reverse(results);
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unindex(Entry entry) {
+        for (String key : entry.keys()) {
+            LongPostings list = postings.get(key);
+            if (list != null) {
+                list.remove(entry.employee().getId());
+                if (list.size() == 0) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String keyOf(String token) {
+        return token.length() > MAX_PREFIX_LENGTH ? token.substring(0, MAX_PREFIX_LENGTH) : token;
+    }
+
+    //Callers get their own instances so they cannot change what the index holds
+    private static Employee copyOf(Employee employee) {
+        return Employee.builder()
+                .id(employee.getId())
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .version(employee.getVersion())
+                .build();
+    }
+
+    private record Hit(long id, int score) {
+    }
+
+    private record Entry(Employee employee, String[] nameTokens, String[] emailTokens) {
+
+        static Entry of(Employee employee) {
+            Set<String> nameTokens = tokenize(employee.getFirstName());
+            nameTokens.addAll(tokenize(employee.getLastName()));
+            Set<String> emailTokens = tokenize(employee.getEmail());
+            return new Entry(copyOf(employee), nameTokens.toArray(String[]::new), emailTokens.toArray(String[]::new));
+        }
+
+        Set<String> keys() {
+            Set<String> keys = new LinkedHashSet<>();
+            addPrefixes(keys, nameTokens);
+            addPrefixes(keys, emailTokens);
+            return keys;
+        }
+
+        int score(String[] queryTokens) {
+            int score = 0;
+            for (String queryToken : queryTokens) {
+                int best = Math.max(match(nameTokens, queryToken, 4, 3), match(emailTokens, queryToken, 2, 1));
+                if (best == 0) {
+                    return 0;
+                }
+                score += best;
+            }
+            return score;
+        }
+
+        private static int match(String[] tokens, String queryToken, int exact, int prefix) {
+            int best = 0;
+            for (String token : tokens) {
+                if (token.equals(queryToken)) {
+                    return exact;
+                }
+                if (token.startsWith(queryToken)) {
+                    best = prefix;
+                }
+            }
+            return best;
+        }
+
+        private static void addPrefixes(Set<String> keys, String[] tokens) {
+            for (String token : tokens) {
+                for (int length = 1; length <= Math.min(token.length(), MAX_PREFIX_LENGTH); length++) {
+                    keys.add(token.substring(0, length));
+                }
+            }
+        }
+    }
+}
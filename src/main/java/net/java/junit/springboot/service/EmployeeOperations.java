@@ -0,0 +1,30 @@
+package net.java.junit.springboot.service;
+
+import net.java.junit.springboot.model.Employee;
+
+//Employee operations shared by the blocking EmployeeService and the reactive ReactiveEmployeeService, parameterized
+//on how each stack returns a result: ONE is exactly one employee (or an error), MAYBE an employee that may not
+//exist, MANY a sequence of employees. EmployeeService binds them to Employee, Optional<Employee> and List<Employee>,
+//ReactiveEmployeeService to Mono<Employee>, Mono<Employee> and Flux<Employee>.
+//deleteEmployee is declared by each stack itself, void has no counterpart a type parameter can stand for.
+public interface EmployeeOperations<ONE, MAYBE, MANY> {
+
+    //A duplicate email fails with ResourceNotFoundException
+    ONE saveEmployee(Employee employee);
+
+    MANY getAllEmployee();
+
+    MAYBE getEmployeeById(long id);
+
+    MAYBE getEmployeeByEmail(String email);
+
+    //Writes the employee as of its id and version: a version that is no longer current, or an employee that no
+    //longer exists, fails with OptimisticLockingFailureException
+    ONE updateEmployee(Employee updatedEmployee);
+
+    //Last write wins; empty when there is no employee with the id
+    MAYBE updateEmployee(long id, Employee changes);
+
+    //Empty when there is no employee with the id, OptimisticLockingFailureException when its version is not the expected one
+    MAYBE updateEmployee(long id, Employee changes, long expectedVersion);
+}
@@ -1,14 +1,23 @@
 package net.java.junit.springboot.service;
 
+import net.java.junit.springboot.dto.EmployeeBatchItemResult;
+import net.java.junit.springboot.dto.EmployeeLookupResult;
 import net.java.junit.springboot.model.Employee;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-public interface EmployeeService {
-    Employee saveEmployee(Employee employee);
-    List<Employee> getAllEmployee();
-    Optional<Employee> getEmployeeById(long id);
-    Employee updateEmployee(Employee updatedEmployee);
+public interface EmployeeService extends EmployeeOperations<Employee, Optional<Employee>, List<Employee>> {
+    List<EmployeeBatchItemResult> saveAllEmployees(List<Employee> employees);
+    List<Employee> getEmployeesAfter(long afterId, int size);
+    void streamAllEmployees(Consumer<Employee> consumer);
+    EmployeeLookupResult lookupEmployees(List<Long> ids, List<String> emails);
+    Map<Long, Employee> updateAllEmployees(Map<Long, Employee> changesById);
     void deleteEmployee(long id);
+    <T> List<T> getAllEmployeeViews(Class<T> type);
+    <T> List<T> getEmployeeViewsAfter(long afterId, int size, Class<T> type);
+    <T> Optional<T> getEmployeeViewById(long id, Class<T> type);
+    List<Employee> searchEmployees(String query, int limit);
 }
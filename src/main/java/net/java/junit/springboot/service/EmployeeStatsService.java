@@ -0,0 +1,10 @@
+package net.java.junit.springboot.service;
+
+import net.java.junit.springboot.dto.EmployeeStats;
+
+public interface EmployeeStatsService {
+
+    EmployeeStats countByEmailDomain(int limit);
+    EmployeeStats countByLastName(int limit);
+    EmployeeStats findDuplicateNames(int limit);
+}
@@ -0,0 +1,18 @@
+package net.java.junit.springboot.service;
+
+import net.java.junit.springboot.dto.EmployeeImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface EmployeeTransferService {
+
+    enum Format {
+        CSV,
+        NDJSON
+    }
+
+    EmployeeImportResult importEmployees(InputStream input, Format format) throws IOException;
+    long exportEmployees(OutputStream output, Format format) throws IOException;
+}
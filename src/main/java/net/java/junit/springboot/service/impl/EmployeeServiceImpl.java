@@ -1,52 +1,437 @@
 package net.java.junit.springboot.service.impl;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import net.java.junit.springboot.config.CacheConfig;
+import net.java.junit.springboot.directory.EmployeeDirectory;
+import net.java.junit.springboot.dto.EmployeeBatchItemResult;
+import net.java.junit.springboot.dto.EmployeeLookupResult;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
 import net.java.junit.springboot.exception.ResourceNotFoundException;
 import net.java.junit.springboot.model.Employee;
 import net.java.junit.springboot.repository.EmployeeRepository;
+import net.java.junit.springboot.search.EmployeeSearchIndex;
 import net.java.junit.springboot.service.EmployeeService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed("employee.service")
 public class EmployeeServiceImpl implements EmployeeService {
 
+    //Keep in step with spring.jpa.properties.hibernate.jdbc.batch_size
+    static final int BATCH_SIZE = 50;
+
+    //Keys per IN (...) of a lookup; a power of two so hibernate.query.in_clause_parameter_padding adds nothing
+    static final int LOOKUP_CHUNK_SIZE = 256;
+
     private final EmployeeRepository employeeRepository;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository){
+    private final EntityManager entityManager;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final EmployeeSearchIndex searchIndex;
+
+    //Only present when employee.directory.enabled=true
+    private final EmployeeDirectory directory;
+
+    private final InFlightLookups<Long, Employee> lookupsById = new InFlightLookups<>();
+
+    private final InFlightLookups<String, Employee> lookupsByEmail = new InFlightLookups<>();
+
+    //Bumped after every committed employee write, see InFlightLookups
+    private final AtomicLong writeEpoch = new AtomicLong();
+
+    //Only present when the employee caches are enabled (CacheConfig)
+    private final CacheManager cacheManager;
+
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EntityManager entityManager,
+                               ApplicationEventPublisher eventPublisher, EmployeeSearchIndex searchIndex,
+                               ObjectProvider<EmployeeDirectory> directory, ObjectProvider<CacheManager> cacheManager){
         this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.searchIndex = searchIndex;
+        this.directory = directory.getIfAvailable();
+        this.cacheManager = cacheManager.getIfAvailable();
     }
 
+    //Writes are transactional so the change event is published inside the transaction (outbox, EmployeeOutbox)
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, key = "#employee.email")
     public Employee saveEmployee(Employee employee) {
 
-        Optional<Employee> savedEmployee = employeeRepository.findByEmail(employee.getEmail());
-
-        if(savedEmployee.isPresent()){
-            throw new ResourceNotFoundException("Employee already exist with given email:" +employee.getEmail());
+        //No findByEmail pre-check: the unique index rejects duplicates, also between concurrent writers
+        Employee savedEmployee;
+        try {
+            savedEmployee = employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(employee, e);
         }
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(savedEmployee));
+        return savedEmployee;
+    }
+
+    @Override
+    @Transactional
+    public List<EmployeeBatchItemResult> saveAllEmployees(List<Employee> employees) {
+        List<EmployeeBatchItemResult> results = new ArrayList<>(employees.size());
+        Set<String> seenEmails = new HashSet<>();
+
+        for (int from = 0; from < employees.size(); from += BATCH_SIZE) {
+            List<Employee> chunk = employees.subList(from, Math.min(from + BATCH_SIZE, employees.size()));
+
+            //One IN (...) query per chunk instead of one findByEmail per employee
+            Set<String> chunkEmails = chunk.stream()
+                    .map(Employee::getEmail)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Set<String> existingEmails = employeeRepository.findByEmailIn(chunkEmails).stream()
+                    .map(Employee::getEmail)
+                    .collect(Collectors.toSet());
+
+            List<Employee> newEmployees = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                Employee employee = chunk.get(i);
+                int index = from + i;
+                if (employee.getFirstName() == null || employee.getLastName() == null || employee.getEmail() == null) {
+                    results.add(EmployeeBatchItemResult.invalid(index, employee, "firstName, lastName and email are required"));
+                } else if (existingEmails.contains(employee.getEmail()) || !seenEmails.add(employee.getEmail())) {
+                    results.add(EmployeeBatchItemResult.duplicate(index, employee));
+                } else {
+                    //A client-supplied id or version would turn the insert into a merge of an existing row
+                    employee.setId(0);
+                    employee.setVersion(0);
+                    newEmployees.add(employee);
+                    results.add(EmployeeBatchItemResult.created(index, employee));
+                }
+            }
 
-        return employeeRepository.save(employee);
+            employeeRepository.saveAll(newEmployees);
+            //Send the chunk as one JDBC batch and keep the persistence context small. Flushed through the
+            //repository, which translates a unique index violation into DataIntegrityViolationException;
+            //the EntityManager would throw Hibernate's exception untranslated
+            employeeRepository.flush();
+            entityManager.clear();
+            //Listeners see these after the commit, so a rolled back batch is never published
+            newEmployees.forEach(created -> eventPublisher.publishEvent(EmployeeChangedEvent.created(created)));
+        }
+        return results;
     }
 
+    //Read-only transactions run on a read replica when replica routing is enabled (ReplicaRoutingConfig).
+    //getAllEmployee, getEmployeeById and getEmployeeByEmail open none themselves: with the off-heap directory
+    //loaded they need no connection at all, otherwise the repository call runs in its own read-only transaction
+    //(SimpleJpaRepository for findAll and findById, the @Transactional(readOnly = true) on EmployeeRepository for findByEmail).
     @Override
     public List<Employee> getAllEmployee() {
+        if (directoryLoaded()) {
+            return directory.getAll();
+        }
         return employeeRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Employee> getEmployeesAfter(long afterId, int size) {
+        return employeeRepository.findNextPage(afterId, Limit.of(size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<Employee> consumer) {
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            employees.forEach(employee -> {
+                consumer.accept(employee);
+                // keep the persistence context empty so memory stays flat
+                entityManager.detach(employee);
+            });
+        }
+    }
+
+    //The caches are skipped while the directory is loaded: it answers from memory anyway, and caching its
+    //results would only keep a second copy of every employee read on the heap
+    @Override
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_BY_ID, key = "#id", condition = "!#root.target.directoryLoaded()",
+            unless = "#result == null")
     public Optional<Employee> getEmployeeById(long id) {
+        if (directoryLoaded()) {
+            return directory.get(id);
+        }
         return employeeRepository.findById(id);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, key = "#email", condition = "!#root.target.directoryLoaded()",
+            unless = "#result == null")
+    public Optional<Employee> getEmployeeByEmail(String email) {
+        if (directoryLoaded()) {
+            return directory.getByEmail(email);
+        }
+        return employeeRepository.findByEmail(email);
+    }
+
+    //Served from the off-heap directory once it is loaded, otherwise from the employee caches and then the
+    //database. No surrounding transaction: every chunk is its own read-only query, and the employees a caller
+    //loads may be handed to concurrent callers waiting on the same keys
+    @Override
+    public EmployeeLookupResult lookupEmployees(List<Long> ids, List<String> emails) {
+        Map<Long, Employee> byId;
+        Map<String, Employee> byEmail;
+        if (directoryLoaded()) {
+            byId = fromDirectory(withoutNulls(ids), directory::get);
+            byEmail = fromDirectory(withoutNulls(emails), directory::getByEmail);
+        } else {
+            long epoch = writeEpoch.get();
+            byId = cachedOrLoaded(withoutNulls(ids), CacheConfig.EMPLOYEES_BY_ID, lookupsById, epoch,
+                    this::findAllByIdInChunks);
+            byEmail = cachedOrLoaded(withoutNulls(emails), CacheConfig.EMPLOYEES_BY_EMAIL, lookupsByEmail, epoch,
+                    this::findByEmailInChunks);
+        }
+
+        Map<Long, Employee> employees = new LinkedHashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        List<String> missingEmails = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(withoutNulls(ids))) {
+            Employee employee = byId.get(id);
+            if (employee == null) {
+                missingIds.add(id);
+            } else {
+                employees.putIfAbsent(employee.getId(), employee);
+            }
+        }
+        for (String email : new LinkedHashSet<>(withoutNulls(emails))) {
+            Employee employee = byEmail.get(email);
+            if (employee == null) {
+                missingEmails.add(email);
+            } else {
+                employees.putIfAbsent(employee.getId(), employee);
+            }
+        }
+        return new EmployeeLookupResult(List.copyOf(employees.values()), missingIds, missingEmails);
+    }
+
+    //The previous email of the employee is unknown here, so the email cache is cleared as a whole
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_ID, key = "#updatedEmployee.id"),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, allEntries = true)
+    })
     public Employee updateEmployee(Employee updatedEmployee) {
-        return employeeRepository.save(updatedEmployee);
+        Employee savedEmployee;
+        try {
+            //Flushed here: a duplicate email would otherwise only fail at commit, after this method returned
+            savedEmployee = employeeRepository.saveAndFlush(updatedEmployee);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(updatedEmployee, e);
+        }
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(savedEmployee));
+        return savedEmployee;
     }
 
+    //Loaded, usually from the second-level cache, and written back by dirty checking as a versioned UPDATE,
+    //so only this employee's cache entry is invalidated; a bulk update statement would drop the whole region
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_ID, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, allEntries = true)
+    })
+    public Optional<Employee> updateEmployee(long id, Employee changes) {
+        return employeeRepository.findById(id).map(employee -> applyChanges(employee, changes));
+    }
+
+    //A version that no longer matches when the UPDATE is flushed fails the same way as a stale expected version
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_ID, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, allEntries = true)
+    })
+    public Optional<Employee> updateEmployee(long id, Employee changes, long expectedVersion) {
+        Optional<Employee> employee = employeeRepository.findById(id);
+        if (employee.isPresent() && employee.get().getVersion() != expectedVersion) {
+            throw new OptimisticLockingFailureException(
+                    "Employee " + id + " was modified concurrently, expected version " + expectedVersion);
+        }
+        return employee.map(current -> applyChanges(current, changes));
+    }
+
+    //Loads each chunk with one IN (...) query and lets Hibernate send the versioned UPDATEs as one JDBC batch;
+    //returns the updated employees by id, ids that do not exist are left out
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_ID, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, allEntries = true)
+    })
+    public Map<Long, Employee> updateAllEmployees(Map<Long, Employee> changesById) {
+        Map<Long, Employee> updatedEmployees = new LinkedHashMap<>();
+        List<Long> ids = new ArrayList<>(changesById.keySet());
+
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Employee> employees = employeeRepository.findAllById(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+            for (Employee employee : employees) {
+                Employee changes = changesById.get(employee.getId());
+                employee.setFirstName(changes.getFirstName());
+                employee.setLastName(changes.getLastName());
+                employee.setEmail(changes.getEmail());
+                updatedEmployees.put(employee.getId(), employee);
+            }
+            //A duplicate email fails the whole call; callers that need per-employee outcomes retry one by one
+            entityManager.flush();
+            entityManager.clear();
+            employees.forEach(updated -> eventPublisher.publishEvent(EmployeeChangedEvent.updated(updated)));
+        }
+        return updatedEmployees;
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_ID, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, allEntries = true)
+    })
     public void deleteEmployee(long id) {
         employeeRepository.deleteById(id);
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> getAllEmployeeViews(Class<T> type) {
+        return employeeRepository.findAllByOrderByIdAsc(type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> List<T> getEmployeeViewsAfter(long afterId, int size, Class<T> type) {
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size), type);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <T> Optional<T> getEmployeeViewById(long id, Class<T> type) {
+        return employeeRepository.findProjectedById(id, type);
+    }
+
+    //Served from the in-memory index, not the database
+    @Override
+    public List<Employee> searchEmployees(String query, int limit) {
+        return searchIndex.search(query, limit);
+    }
+
+    //Read by the @Cacheable conditions, hence public
+    public boolean directoryLoaded() {
+        return directory != null && directory.isLoaded();
+    }
+
+    //Runs after commit: lookups already in flight may have read the old row, so later callers stop joining them
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        writeEpoch.incrementAndGet();
+    }
+
+    private static <K> Map<K, Employee> fromDirectory(List<K> keys, Function<K, Optional<Employee>> read) {
+        Map<K, Employee> employees = new HashMap<>();
+        for (K key : keys) {
+            read.apply(key).ifPresent(employee -> employees.put(key, employee));
+        }
+        return employees;
+    }
+
+    //Cache hits are only read: a lookup does not fill the caches getEmployeeById and getEmployeeByEmail own
+    private <K> Map<K, Employee> cachedOrLoaded(List<K> keys, String cacheName, InFlightLookups<K, Employee> lookups,
+                                                long epoch, Function<List<K>, Map<K, Employee>> loader) {
+        Cache cache = cacheManager == null ? null : cacheManager.getCache(cacheName);
+        Map<K, Employee> employees = new HashMap<>();
+        List<K> misses = new ArrayList<>();
+        for (K key : keys) {
+            Employee cached = cache == null ? null : cache.get(key, Employee.class);
+            if (cached != null) {
+                employees.put(key, cached);
+            } else {
+                misses.add(key);
+            }
+        }
+        employees.putAll(lookups.load(misses, epoch, loader));
+        return employees;
+    }
+
+    private Map<Long, Employee> findAllByIdInChunks(List<Long> ids) {
+        Map<Long, Employee> employees = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            employeeRepository.findAllById(ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size())))
+                    .forEach(employee -> employees.put(employee.getId(), employee));
+        }
+        return employees;
+    }
+
+    private Map<String, Employee> findByEmailInChunks(List<String> emails) {
+        Map<String, Employee> employees = new HashMap<>();
+        for (int from = 0; from < emails.size(); from += LOOKUP_CHUNK_SIZE) {
+            employeeRepository.findByEmailIn(emails.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, emails.size())))
+                    .forEach(employee -> employees.put(employee.getEmail(), employee));
+        }
+        return employees;
+    }
+
+    private Employee applyChanges(Employee employee, Employee changes) {
+        employee.setFirstName(changes.getFirstName());
+        employee.setLastName(changes.getLastName());
+        employee.setEmail(changes.getEmail());
+        try {
+            employeeRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(changes, e);
+        }
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(employee));
+        return employee;
+    }
+
+    private static <T> List<T> withoutNulls(List<T> values) {
+        return values.stream().filter(Objects::nonNull).toList();
+    }
+
+    private static RuntimeException translateDuplicateEmail(Employee employee, DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase().contains(Employee.EMAIL_UNIQUE_CONSTRAINT)) {
+                return new ResourceNotFoundException("Employee already exist with given email:" + employee.getEmail(), e);
+            }
+        }
+        return e;
     }
 }
@@ -0,0 +1,131 @@
+package net.java.junit.springboot.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import net.java.junit.springboot.dto.EmployeeCount;
+import net.java.junit.springboot.dto.EmployeeNameView;
+import net.java.junit.springboot.dto.EmployeeStats;
+import net.java.junit.springboot.repository.EmployeeRepository;
+import net.java.junit.springboot.service.EmployeeStatsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+//Server-side aggregations instead of clients pulling GET /api/employees to count.
+//Counts by email domain and by last name are GROUP BY queries. Duplicate names compare normalized names
+//(case, accents and spacing ignored), which SQL cannot do portably, so the table is split into id ranges that
+//a fork-join pool reads and counts in parallel, each range with its own query and read-only transaction.
+@Service
+public class EmployeeStatsServiceImpl implements EmployeeStatsService {
+
+    //Ids per range read by one fork-join leaf
+    static final long CHUNK_IDS = 8192;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private final EmployeeRepository employeeRepository;
+
+    private final ForkJoinPool pool;
+
+    //employee.stats.parallelism: fork-join workers, 0 for one per core; every worker may hold a connection
+    public EmployeeStatsServiceImpl(EmployeeRepository employeeRepository,
+                                    @Value("${employee.stats.parallelism:0}") int parallelism) {
+        this.employeeRepository = employeeRepository;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public EmployeeStats countByEmailDomain(int limit) {
+        return timed("email-domains", "database", 0, () -> employeeRepository.countByEmailDomain(Limit.of(limit)));
+    }
+
+    @Override
+    public EmployeeStats countByLastName(int limit) {
+        return timed("last-names", "database", 0, () -> employeeRepository.countByLastName(Limit.of(limit)));
+    }
+
+    @Override
+    public EmployeeStats findDuplicateNames(int limit) {
+        return timed("duplicate-names", "fork-join", pool.getParallelism(), () -> {
+            Optional<Long> from = employeeRepository.findMinId();
+            Optional<Long> to = employeeRepository.findMaxId();
+            if (from.isEmpty() || to.isEmpty()) {
+                return List.<EmployeeCount>of();
+            }
+            Map<String, Long> counts = pool.invoke(new NameCountTask(from.get(), to.get() + 1));
+            return counts.entrySet().stream()
+                    .filter(entry -> entry.getValue() > 1)
+                    .map(entry -> new EmployeeCount(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingLong(EmployeeCount::count).reversed()
+                            .thenComparing(EmployeeCount::key))
+                    .limit(limit)
+                    .toList();
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    static String normalizedName(EmployeeNameView name) {
+        String full = Normalizer.normalize(name.firstName() + " " + name.lastName(), Normalizer.Form.NFD);
+        return SPACES.matcher(MARKS.matcher(full).replaceAll("")).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static EmployeeStats timed(String stat, String computedBy, int parallelism,
+                                       Supplier<List<EmployeeCount>> computation) {
+        long start = System.nanoTime();
+        List<EmployeeCount> counts = computation.get();
+        return new EmployeeStats(stat, computedBy, parallelism, counts, (System.nanoTime() - start) / 1_000_000.0);
+    }
+
+    //Counts normalized names of the employees with from <= id < to, halving the range down to CHUNK_IDS ids
+    private final class NameCountTask extends RecursiveTask<Map<String, Long>> {
+
+        private final long from;
+
+        private final long to;
+
+        NameCountTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<String, Long> compute() {
+            if (to - from > CHUNK_IDS) {
+                long middle = from + (to - from) / 2;
+                NameCountTask lower = new NameCountTask(from, middle);
+                lower.fork();
+                Map<String, Long> upper = new NameCountTask(middle, to).compute();
+                return merge(lower.join(), upper);
+            }
+            Map<String, Long> counts = new HashMap<>();
+            for (EmployeeNameView name : employeeRepository.findNamesInIdRange(from, to)) {
+                counts.merge(normalizedName(name), 1L, Long::sum);
+            }
+            return counts;
+        }
+
+        private static Map<String, Long> merge(Map<String, Long> left, Map<String, Long> right) {
+            Map<String, Long> larger = left.size() >= right.size() ? left : right;
+            Map<String, Long> smaller = larger == left ? right : left;
+            smaller.forEach((name, count) -> larger.merge(name, count, Long::sum));
+            return larger;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package net.java.junit.springboot.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.java.junit.springboot.dto.EmployeeBatchItemResult;
+import net.java.junit.springboot.dto.EmployeeImportResult;
+import net.java.junit.springboot.exception.ResourceNotFoundException;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.service.EmployeeService;
+import net.java.junit.springboot.service.EmployeeTransferService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+//Roster import and export. Import reads the request line by line and hands saveAllEmployees one chunk
+//at a time, export writes rows straight from the database cursor, so memory stays flat for any file size.
+@Slf4j
+@Service
+public class EmployeeTransferServiceImpl implements EmployeeTransferService {
+
+    //Rows per transaction; saveAllEmployees sends them in JDBC batches of BATCH_SIZE
+    static final int IMPORT_CHUNK_SIZE = 1000;
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    static final String CSV_HEADER = "id,firstName,lastName,email";
+
+    //Same message as the INVALID results of saveAllEmployees
+    static final String REQUIRED_FIELDS = "firstName, lastName and email are required";
+
+    private final EmployeeService employeeService;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    public EmployeeTransferServiceImpl(EmployeeService employeeService, ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry){
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    //CSV needs a header naming firstName, lastName and email (any order, other columns are ignored);
+    //NDJSON has one employee object per line. Imported ids are ignored, every row is a create.
+    @Override
+    public EmployeeImportResult importEmployees(InputStream input, Format format) throws IOException {
+        long start = System.nanoTime();
+        ImportProgress progress = new ImportProgress();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+
+        int[] columns = null;
+        if (format == Format.CSV) {
+            String header = reader.readLine();
+            lineNumber++;
+            if (header == null) {
+                return progress.result(start);
+            }
+            columns = csvColumns(header);
+        }
+
+        List<Employee> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        List<Long> chunkLines = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            progress.rows++;
+            Employee employee;
+            try {
+                employee = format == Format.CSV ? fromCsv(line, columns) : objectMapper.readValue(line, Employee.class);
+            } catch (IllegalArgumentException | JsonProcessingException e) {
+                progress.invalid(lineNumber, e.getMessage());
+                continue;
+            }
+            //An NDJSON line holding the literal null
+            if (employee == null) {
+                progress.invalid(lineNumber, "expected an employee object");
+                continue;
+            }
+            employee.setId(0);
+            employee.setVersion(0);
+            chunk.add(employee);
+            chunkLines.add(lineNumber);
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                saveChunk(chunk, chunkLines, progress);
+                chunk.clear();
+                chunkLines.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, chunkLines, progress);
+        }
+
+        EmployeeImportResult result = progress.result(start);
+        report("import", result.rows(), start);
+        return result;
+    }
+
+    @Override
+    public long exportEmployees(OutputStream output, Format format) throws IOException {
+        long start = System.nanoTime();
+        long[] rows = {0};
+        if (format == Format.CSV) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            employeeService.streamAllEmployees(employee -> {
+                try {
+                    writer.write(toCsv(employee));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+            writer.flush();
+        } else {
+            // flushing after every value would turn each row into its own write
+            ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            JsonGenerator generator = objectMapper.createGenerator(output);
+            generator.setRootValueSeparator(null);
+            employeeService.streamAllEmployees(employee -> {
+                try {
+                    writer.writeValue(generator, employee);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+            generator.flush();
+        }
+        report("export", rows[0], start);
+        return rows[0];
+    }
+
+    private void saveChunk(List<Employee> chunk, List<Long> chunkLines, ImportProgress progress) {
+        try {
+            for (EmployeeBatchItemResult result : employeeService.saveAllEmployees(chunk)) {
+                progress.record(chunkLines.get(result.index()), result);
+            }
+        } catch (DataIntegrityViolationException e) {
+            //Another writer took one of the emails after the duplicate check; retry the chunk row by row
+            for (int i = 0; i < chunk.size(); i++) {
+                Employee employee = chunk.get(i);
+                long line = chunkLines.get(i);
+                //saveEmployee does not check the fields saveAllEmployees reports as INVALID
+                if (employee.getFirstName() == null || employee.getLastName() == null || employee.getEmail() == null) {
+                    progress.invalid(line, REQUIRED_FIELDS);
+                    continue;
+                }
+                //The rolled back batch already assigned ids
+                employee.setId(0);
+                employee.setVersion(0);
+                try {
+                    employeeService.saveEmployee(employee);
+                    progress.created++;
+                } catch (ResourceNotFoundException duplicate) {
+                    progress.duplicate(line, duplicate.getMessage());
+                } catch (DataIntegrityViolationException rejected) {
+                    progress.invalid(line, rejected.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    //Rows per second are logged here and exported as the rate of employee.transfer.rows
+    private void report(String direction, long rows, long start) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        meterRegistry.counter("employee.transfer.rows", "direction", direction).increment(rows);
+        meterRegistry.timer("employee.transfer", "direction", direction).record(elapsed);
+        log.info("Employee {} of {} rows took {} ms ({} rows/s)", direction, rows, elapsed.toMillis(),
+                Math.round(rowsPerSecond(rows, elapsed.toNanos())));
+    }
+
+    private static double rowsPerSecond(long rows, long nanos) {
+        return nanos == 0 ? 0 : rows * 1_000_000_000d / nanos;
+    }
+
+    private static int[] csvColumns(String header) {
+        List<String> names = parseCsvLine(header);
+        int[] columns = {-1, -1, -1};
+        for (int i = 0; i < names.size(); i++) {
+            switch (names.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "firstname" -> columns[0] = i;
+                case "lastname" -> columns[1] = i;
+                case "email" -> columns[2] = i;
+                default -> {
+                    // not imported
+                }
+            }
+        }
+        if (columns[0] < 0 || columns[1] < 0 || columns[2] < 0) {
+            throw new IllegalArgumentException("CSV header must name the firstName, lastName and email columns: " + header);
+        }
+        return columns;
+    }
+
+    private static Employee fromCsv(String line, int[] columns) {
+        List<String> fields = parseCsvLine(line);
+        int required = Math.max(columns[0], Math.max(columns[1], columns[2])) + 1;
+        if (fields.size() < required) {
+            throw new IllegalArgumentException("expected at least " + required + " columns, found " + fields.size());
+        }
+        return Employee.builder()
+                .firstName(blankToNull(fields.get(columns[0])))
+                .lastName(blankToNull(fields.get(columns[1])))
+                .email(blankToNull(fields.get(columns[2])))
+                .build();
+    }
+
+    //RFC 4180 fields on a single line: quoted fields may contain commas and "" but not line breaks
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    static String toCsv(Employee employee) {
+        return employee.getId() + "," + csvField(employee.getFirstName()) + "," + csvField(employee.getLastName())
+                + "," + csvField(employee.getEmail());
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String blankToNull(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static final class ImportProgress {
+
+        private long rows;
+
+        private long created;
+
+        private long duplicates;
+
+        private long invalid;
+
+        private final List<EmployeeImportResult.RowError> errors = new ArrayList<>();
+
+        void record(long line, EmployeeBatchItemResult result) {
+            switch (result.status()) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicate(line, result.message());
+                case INVALID -> invalid(line, result.message());
+            }
+        }
+
+        void duplicate(long line, String message) {
+            duplicates++;
+            error(line, message);
+        }
+
+        void invalid(long line, String message) {
+            invalid++;
+            error(line, message);
+        }
+
+        private void error(long line, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new EmployeeImportResult.RowError(line, message));
+            }
+        }
+
+        EmployeeImportResult result(long start) {
+            long nanos = System.nanoTime() - start;
+            return new EmployeeImportResult(rows, created, duplicates, invalid, List.copyOf(errors),
+                    Duration.ofNanos(nanos).toMillis(), rowsPerSecond(rows, nanos));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package net.java.junit.springboot.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+//Request coalescing: a key that another caller is already loading is not queried again, the caller waits
+//for that load instead. Loads are tagged with the write epoch they started in, and a caller only joins a load
+//from its own epoch or a later one: a load that started before a write committed may still return the old row.
+//Nothing is kept after a load completes.
+final class InFlightLookups<K, V> {
+
+    private final ConcurrentHashMap<K, Load<V>> inFlight = new ConcurrentHashMap<>();
+
+    //The loader gets the keys this caller has to load itself and returns the values it found by key;
+    //epoch is the write epoch the caller read before looking anything up
+    Map<K, V> load(Collection<K> keys, long epoch, Function<List<K>, Map<K, V>> loader) {
+        Map<K, Load<V>> owned = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> all = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (all.containsKey(key)) {
+                continue;
+            }
+            Load<V> load = new Load<>(epoch, new CompletableFuture<>());
+            //A load from an older epoch is replaced, its callers keep waiting on it
+            Load<V> current = inFlight.compute(key,
+                    (k, existing) -> existing != null && existing.epoch() >= epoch ? existing : load);
+            if (current == load) {
+                owned.put(key, load);
+            }
+            all.put(key, current.future());
+        }
+
+        //Own keys are completed before waiting on anyone else's, so two callers never wait on each other
+        if (!owned.isEmpty()) {
+            try {
+                Map<K, V> loaded = loader.apply(new ArrayList<>(owned.keySet()));
+                owned.forEach((key, load) -> load.future().complete(loaded.get(key)));
+            } catch (RuntimeException e) {
+                owned.values().forEach(load -> load.future().completeExceptionally(e));
+                throw e;
+            } finally {
+                //Only this caller's own load is removed: a caller from a later epoch may have replaced it meanwhile,
+                //and removing that load by key would send the next callers to the database again
+                owned.forEach((key, load) -> inFlight.remove(key, load));
+            }
+        }
+
+        Map<K, V> values = new HashMap<>();
+        try {
+            all.forEach((key, future) -> {
+                V value = future.join();
+                if (value != null) {
+                    values.put(key, value);
+                }
+            });
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        return values;
+    }
+
+    private record Load<V>(long epoch, CompletableFuture<V> future) {
+    }
+}
@@ -0,0 +1,285 @@
+package net.java.junit.springboot.writebehind;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import net.java.junit.springboot.dto.EmployeeBatchItemResult;
+import net.java.junit.springboot.dto.WriteBehindStatus;
+import net.java.junit.springboot.dto.WriteTicket;
+import net.java.junit.springboot.exception.WriteBehindQueueFullException;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.service.EmployeeService;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+//Write-behind for employee creates and unconditional updates.
+//Request threads only append to a lock-free queue (bounded by a counter) and get a ticket back;
+//a single flusher thread drains it, keeps the last write per employee id and commits each drained
+//batch through EmployeeService, so caches, the search index and JDBC batching work as for synchronous writes.
+@Slf4j
+public class EmployeeWriteBehind implements SmartLifecycle {
+
+    //Stop after the web server has stopped taking requests and before the DataSource is closed
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final EmployeeService employeeService;
+
+    private final WriteBehindProperties properties;
+
+    private final ConcurrentLinkedQueue<PendingWrite> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final AtomicLong nextTicket = new AtomicLong();
+
+    private final Cache<Long, WriteTicket> tickets;
+
+    private final LongAdder committed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean accepting = true;
+
+    private volatile boolean running;
+
+    private volatile Thread flusher;
+
+    public EmployeeWriteBehind(EmployeeService employeeService, WriteBehindProperties properties) {
+        this.employeeService = employeeService;
+        this.properties = properties;
+        this.tickets = Caffeine.newBuilder().maximumSize(properties.ticketRetention()).build();
+    }
+
+    public WriteTicket submitCreate(Employee employee) {
+        return submit(null, employee);
+    }
+
+    public WriteTicket submitUpdate(long id, Employee changes) {
+        return submit(id, changes);
+    }
+
+    public Optional<WriteTicket> getTicket(long ticket) {
+        return Optional.ofNullable(tickets.getIfPresent(ticket));
+    }
+
+    public WriteBehindStatus status() {
+        PendingWrite oldest = queue.peek();
+        long oldestQueuedMillis = oldest == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.queuedAt());
+        return new WriteBehindStatus(queued.get(), properties.queueCapacity(), oldestQueuedMillis,
+                committed.sum(), failed.sum());
+    }
+
+    private WriteTicket submit(Long id, Employee employee) {
+        if (!accepting) {
+            throw new WriteBehindQueueFullException("Write-behind queue is shutting down");
+        }
+        int size = queued.incrementAndGet();
+        if (size > properties.queueCapacity()) {
+            queued.decrementAndGet();
+            throw new WriteBehindQueueFullException("Write-behind queue is full (" + properties.queueCapacity() + " writes)");
+        }
+        WriteTicket ticket = WriteTicket.queued(nextTicket.incrementAndGet(), id);
+        tickets.put(ticket.ticket(), ticket);
+        PendingWrite write = new PendingWrite(ticket.ticket(), id, employee, System.nanoTime());
+        queue.offer(write);
+        //stop() may have begun after the check above and already drained the queue for the last time. accepting
+        //is cleared before that drain, so a write still queued now has to be taken back, otherwise nothing would
+        //ever commit or fail it; if it is gone, a drain took it and owns its outcome.
+        if (!accepting && queue.remove(write)) {
+            queued.decrementAndGet();
+            tickets.invalidate(ticket.ticket());
+            throw new WriteBehindQueueFullException("Write-behind queue is shutting down");
+        }
+        //A full batch is flushed straight away, smaller ones wait at most max-lag
+        if (size >= properties.batchSize()) {
+            LockSupport.unpark(flusher);
+        }
+        return ticket;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        accepting = true;
+        Thread thread = new Thread(this::runFlusher, "employee-write-behind");
+        thread.setDaemon(true);
+        flusher = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        Thread thread = flusher;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(properties.shutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("Write-behind flusher did not finish within {}, {} writes still queued",
+                    properties.shutdownTimeout(), queued.get());
+            return;
+        }
+        //The flusher is gone, so this thread is now the only consumer
+        failRemaining();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void runFlusher() {
+        long maxLagNanos = properties.maxLag().toNanos();
+        while (true) {
+            if (!running && !properties.flushOnShutdown()) {
+                failRemaining();
+                return;
+            }
+            int flushed = flushPending();
+            if (flushed == 0) {
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(this, maxLagNanos);
+            }
+        }
+    }
+
+    //Drains and commits up to batch-size writes; returns how many were taken off the queue
+    int flushPending() {
+        List<PendingWrite> batch = drain();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<PendingWrite> creates = new ArrayList<>();
+        //Coalesce: only the last write per employee is applied, earlier tickets share its outcome
+        Map<Long, List<PendingWrite>> updates = new LinkedHashMap<>();
+        for (PendingWrite write : batch) {
+            if (write.employeeId() == null) {
+                creates.add(write);
+            } else {
+                updates.computeIfAbsent(write.employeeId(), id -> new ArrayList<>()).add(write);
+            }
+        }
+        try {
+            if (!creates.isEmpty()) {
+                flushCreates(creates);
+            }
+            if (!updates.isEmpty()) {
+                flushUpdates(updates);
+            }
+        } catch (RuntimeException e) {
+            log.error("Write-behind flush of {} writes failed", batch.size(), e);
+            batch.forEach(write -> fail(write, e.getMessage()));
+        }
+        return batch.size();
+    }
+
+    private void flushCreates(List<PendingWrite> creates) {
+        List<Employee> employees = creates.stream().map(PendingWrite::employee).toList();
+        List<EmployeeBatchItemResult> results;
+        try {
+            results = employeeService.saveAllEmployees(employees);
+        } catch (RuntimeException e) {
+            //A concurrent writer can still hit the unique email index and roll back the whole batch,
+            //so retry one by one to find the write that caused it
+            for (PendingWrite write : creates) {
+                //The rolled back batch already assigned ids
+                write.employee().setId(0);
+                write.employee().setVersion(0);
+                try {
+                    complete(write, employeeService.saveEmployee(write.employee()).getId());
+                } catch (RuntimeException single) {
+                    fail(write, single.getMessage());
+                }
+            }
+            return;
+        }
+        for (EmployeeBatchItemResult result : results) {
+            PendingWrite write = creates.get(result.index());
+            if (result.status() == EmployeeBatchItemResult.Status.CREATED) {
+                complete(write, result.employee().getId());
+            } else {
+                fail(write, result.message());
+            }
+        }
+    }
+
+    private void flushUpdates(Map<Long, List<PendingWrite>> updates) {
+        Map<Long, Employee> changes = new LinkedHashMap<>();
+        updates.forEach((id, writes) -> changes.put(id, writes.get(writes.size() - 1).employee()));
+        Map<Long, Employee> updated;
+        try {
+            updated = employeeService.updateAllEmployees(changes);
+        } catch (RuntimeException e) {
+            updates.forEach((id, writes) -> {
+                try {
+                    boolean found = employeeService.updateEmployee(id, changes.get(id)).isPresent();
+                    writes.forEach(write -> completeUpdate(write, found));
+                } catch (RuntimeException single) {
+                    writes.forEach(write -> fail(write, single.getMessage()));
+                }
+            });
+            return;
+        }
+        updates.forEach((id, writes) -> writes.forEach(write -> completeUpdate(write, updated.containsKey(id))));
+    }
+
+    private void completeUpdate(PendingWrite write, boolean found) {
+        if (found) {
+            complete(write, write.employeeId());
+        } else {
+            fail(write, "Employee not found with id:" + write.employeeId());
+        }
+    }
+
+    private List<PendingWrite> drain() {
+        List<PendingWrite> batch = new ArrayList<>(properties.batchSize());
+        PendingWrite write;
+        while (batch.size() < properties.batchSize() && (write = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(write);
+        }
+        return batch;
+    }
+
+    private void failRemaining() {
+        List<PendingWrite> batch;
+        while (!(batch = drain()).isEmpty()) {
+            batch.forEach(write -> fail(write, "Write-behind queue was shut down before the write was committed"));
+        }
+    }
+
+    private void complete(PendingWrite write, long employeeId) {
+        committed.increment();
+        tickets.put(write.ticket(), WriteTicket.committed(write.ticket(), employeeId));
+    }
+
+    private void fail(PendingWrite write, String message) {
+        failed.increment();
+        tickets.put(write.ticket(), WriteTicket.failed(write.ticket(), write.employeeId(), message));
+    }
+
+    private record PendingWrite(long ticket, Long employeeId, Employee employee, long queuedAt) {
+    }
+}
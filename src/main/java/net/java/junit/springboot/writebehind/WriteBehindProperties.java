@@ -0,0 +1,22 @@
+package net.java.junit.springboot.writebehind;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+//employee.write-behind.* settings
+//queue-capacity: writes held before callers get 503 (backpressure)
+//batch-size:     writes committed per transaction, keep in step with hibernate.jdbc.batch_size
+//max-lag:        longest a queued write waits for the flusher when the queue is quiet
+//flush-on-shutdown / shutdown-timeout: drain the queue on shutdown, or fail what is left
+@ConfigurationProperties("employee.write-behind")
+public record WriteBehindProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("200ms") Duration maxLag,
+        @DefaultValue("true") boolean flushOnShutdown,
+        @DefaultValue("30s") Duration shutdownTimeout,
+        @DefaultValue("100000") int ticketRetention) {
+}
@@ -0,0 +1,140 @@
+package net.java.junit.springboot.reactive.controller;
+
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.reactive.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.BDDMockito.given;
+
+@WebFluxTest(ReactiveEmployeeController.class)
+public class ReactiveEmployeeControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveEmployeeService employeeService;
+
+    @Test
+    void givenEmployeeObject_whenCreateEmployee_thenReturnSavedEmployee() {
+        //given
+        Employee employee = Employee.builder()
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email("ram@gmail.com")
+                .build();
+
+        given(employeeService.saveEmployee(ArgumentMatchers.any(Employee.class)))
+                .willAnswer((invocation) -> Mono.just(invocation.getArgument(0)));
+
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.post().uri("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employee)
+                .exchange();
+
+        //then
+        response.expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("Ram");
+    }
+
+    //JUnit test for get all employees rest api
+    @DisplayName("JUnit test for get all employees rest api")
+    @Test
+    void givenListOfEmployees_whenGetAllEmployees_thenEmployeesList() {
+        //given - precondition or setup
+        given(employeeService.getAllEmployee()).willReturn(Flux.just(
+                Employee.builder().firstName("Ram").lastName("Kumar").email("ram@gmail.com").build(),
+                Employee.builder().firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build()));
+
+        //when - action or the behaviour that are going to be tested
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employees")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        //then - verify the output
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.size()").isEqualTo(2);
+
+    }
+
+    //JUnit test for get employee by id rest api negative case
+    @DisplayName("JUnit test for get employee by id rest api negative case")
+    @Test
+    void givenEmployeeId_whenGetEmployeeId_thenReturnEmpty() {
+        //given - precondition or setup
+        given(employeeService.getEmployeeById(2L)).willReturn(Mono.empty());
+
+        //when - action or the behaviour that are going to be tested
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employees/{id}", 2L).exchange();
+
+        //then - verify the output
+        response.expectStatus().isNotFound();
+
+    }
+
+    //JUnit test for update employee rest api for positive scenario
+    @DisplayName("JUnit test for update employee rest api for positive scenario")
+    @Test
+    void givenUpdatedEmployee_whenUpdateEmployee_thenReturnUpdatedEmployee() {
+        //given - precondition or setup
+        Employee updatedEmployee = Employee.builder().firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build();
+
+        given(employeeService.updateEmployee(ArgumentMatchers.eq(1L), ArgumentMatchers.any(Employee.class), ArgumentMatchers.eq(2L)))
+                .willAnswer((invocation) -> {
+                    Employee employee = invocation.getArgument(1);
+                    employee.setId(1L);
+                    employee.setVersion(3L);
+                    return Mono.just(employee);
+                });
+
+        //when - action or the behaviour that are going to be tested
+        WebTestClient.ResponseSpec response = webTestClient.put().uri("/api/employees/{id}", 1L)
+                .header("If-Match", "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updatedEmployee)
+                .exchange();
+
+        //then - verify the output
+        response.expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"3\"")
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("Ramesh")
+                .jsonPath("$.email").isEqualTo("ramesh@gmail.com");
+
+    }
+
+    //JUnit test for update employee rest api with a stale version
+    @DisplayName("JUnit test for update employee rest api with a stale version")
+    @Test
+    void givenStaleVersion_whenUpdateEmployee_thenPreconditionFailed() {
+        //given - precondition or setup
+        Employee updatedEmployee = Employee.builder().firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build();
+
+        given(employeeService.updateEmployee(ArgumentMatchers.eq(1L), ArgumentMatchers.any(Employee.class), ArgumentMatchers.eq(1L)))
+                .willReturn(Mono.error(new OptimisticLockingFailureException("modified concurrently")));
+
+        //when - action or the behaviour that are going to be tested
+        WebTestClient.ResponseSpec response = webTestClient.put().uri("/api/employees/{id}", 1L)
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updatedEmployee)
+                .exchange();
+
+        //then - verify the output
+        response.expectStatus().isEqualTo(412);
+
+    }
+}
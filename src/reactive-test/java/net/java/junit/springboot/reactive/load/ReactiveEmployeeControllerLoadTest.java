@@ -0,0 +1,41 @@
+package net.java.junit.springboot.reactive.load;
+
+import net.java.junit.springboot.load.LoadResult;
+import net.java.junit.springboot.load.LoadTestSupport;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.reactive.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//Same workload as EmployeeControllerLoadTest, served by WebFlux on Netty with R2DBC;
+//run with ./mvnw -Preactive,load-test test and compare the lines in target/load-results.csv
+@ActiveProfiles("reactive")
+public class ReactiveEmployeeControllerLoadTest extends LoadTestSupport {
+
+    @Autowired
+    private ReactiveEmployeeService employeeService;
+
+    @Override
+    protected List<Long> seedEmployees(){
+        return Flux.fromIterable(newEmployees())
+                .concatMap(employeeService::saveEmployee)
+                .map(Employee::getId)
+                .collectList()
+                .block();
+    }
+
+    @Test
+    void givenConcurrentClients_whenGetEmployeeById_thenAllRequestsSucceed() throws InterruptedException {
+        List<Long> ids = seedEmployees();
+
+        LoadResult result = run("webflux-r2dbc", request -> "/api/employees/" + randomOf(ids));
+
+        assertThat(result.errors()).isZero();
+    }
+}
@@ -0,0 +1,150 @@
+package net.java.junit.springboot.reactive.repository;
+
+import net.java.junit.springboot.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest
+@ActiveProfiles("reactive")
+public class ReactiveEmployeeRepositoryTests {
+
+    @Autowired
+    private ReactiveEmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp(){
+        employeeRepository.deleteAll().block();
+        employee = Employee.builder()
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email("ram@gmail.com")
+                .build();
+    }
+
+    //JUnit test for save employee operation
+    @DisplayName("JUnit test for save employee operation")
+    @Test
+    void givenEmployeeObject_whenSave_thenReturnSavedEmployee(){
+        //when - action or the behaviour that are going to be tested
+        Employee savedEmployee = employeeRepository.save(employee).block();
+
+        //then - verify the output
+        assertThat(savedEmployee).isNotNull();
+        assertThat(savedEmployee.getId()).isGreaterThan(0);
+
+    }
+
+    //JUnit test for get all employees operation
+    @DisplayName("JUnit test for get all employees operation")
+    @Test
+    void givenEmployeeList_whenFindAll_thenEmployeesList(){
+        //given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .firstName("Shayam")
+                .lastName("Kumar")
+                .email("shayam@gmail.com")
+                .build();
+        employeeRepository.saveAll(List.of(employee, employee1)).blockLast();
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        StepVerifier.create(employeeRepository.findAll())
+                .expectNextCount(2)
+                .verifyComplete();
+
+    }
+
+    //JUnit test for get employee by email operation
+    @DisplayName("JUnit test for get employee by email operation")
+    @Test
+    void givenEmployeeEmail_whenFindByEmail_thenReturnEmployeeObject(){
+        //given - precondition or setup
+        employeeRepository.save(employee).block();
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        StepVerifier.create(employeeRepository.findByEmail("ram@gmail.com"))
+                .assertNext(employeeDB -> assertThat(employeeDB.getFirstName()).isEqualTo("Ram"))
+                .verifyComplete();
+
+    }
+
+    //JUnit test for the custom first and last name queries
+    @DisplayName("JUnit test for the custom first and last name queries")
+    @Test
+    void givenFirstNameAndLastName_whenCustomQueries_thenReturnEmployeeObject(){
+        //given - precondition or setup
+        employeeRepository.save(employee).block();
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        StepVerifier.create(employeeRepository.findByJPQL("Ram", "Kumar")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(employeeRepository.findByNamedParams("Ram", "Kumar")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(employeeRepository.findByNativeSQL("Ram", "Kumar")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(employeeRepository.findByNativeSQLWithNamedParams("Ram", "Kumar")).expectNextCount(1).verifyComplete();
+
+    }
+
+    //JUnit test for conditional update operation
+    @DisplayName("JUnit test for conditional update operation")
+    @Test
+    void givenEmployeeVersion_whenUpdateIfVersionMatches_thenOnlyCurrentVersionIsUpdated(){
+        //given - precondition or setup
+        Employee savedEmployee = employeeRepository.save(employee).block();
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        StepVerifier.create(employeeRepository.updateIfVersionMatches(savedEmployee.getId(), 0L,
+                        "Ramesh", "Kumar", "ramesh@gmail.com"))
+                .expectNext(1)
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.updateIfVersionMatches(savedEmployee.getId(), 0L,
+                        "Mohan", "Kumar", "mohan@gmail.com"))
+                .expectNext(0)
+                .verifyComplete();
+        StepVerifier.create(employeeRepository.findById(savedEmployee.getId()))
+                .assertNext(employeeDB -> {
+                    assertThat(employeeDB.getFirstName()).isEqualTo("Ramesh");
+                    assertThat(employeeDB.getVersion()).isEqualTo(1L);
+                })
+                .verifyComplete();
+
+    }
+
+    //JUnit test for unique email constraint
+    @DisplayName("JUnit test for unique email constraint")
+    @Test
+    void givenExistingEmail_whenSave_thenThrowsDataIntegrityViolation(){
+        //given - precondition or setup
+        employeeRepository.save(employee).block();
+        Employee employee1 = Employee.builder()
+                .firstName("Shayam")
+                .lastName("Kumar")
+                .email("ram@gmail.com")
+                .build();
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        StepVerifier.create(employeeRepository.save(employee1))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+
+    }
+}
@@ -0,0 +1,178 @@
+package net.java.junit.springboot.reactive.service;
+
+import net.java.junit.springboot.exception.ResourceNotFoundException;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.reactive.repository.ReactiveEmployeeRepository;
+import net.java.junit.springboot.reactive.service.impl.ReactiveEmployeeServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveEmployeeServiceTests {
+
+    @Mock
+    private ReactiveEmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private ReactiveEmployeeServiceImpl employeeService;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp(){
+        employee = Employee.builder()
+                .firstName("Ram")
+                .id(1L)
+                .lastName("Kumar")
+                .email("ram@gmail.com")
+                .build();
+    }
+
+    //JUnit test for saveEmployee method
+    @DisplayName("JUnit test for saveEmployee method")
+    @Test
+    void givenEmployeeObject_whenSaveEmployee_thenReturnEmployeeObject(){
+        //given - precondition or setup
+        given(employeeRepository.save(employee)).willReturn(Mono.just(employee));
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        StepVerifier.create(employeeService.saveEmployee(employee))
+                .expectNext(employee)
+                .verifyComplete();
+
+    }
+
+    //JUnit test for saveEmployee method which throws exception
+    @DisplayName("JUnit test for saveEmployee method which throws exception")
+    @Test
+    void givenExistingEmail_whenSaveEmployee_thenThrowsException(){
+        //given - precondition or setup
+        given(employeeRepository.save(employee)).willReturn(Mono.error(new DataIntegrityViolationException(
+                "Unique index or primary key violation: \"PUBLIC.UK_EMPLOYEES_EMAIL_INDEX_2 ON PUBLIC.EMPLOYEES(EMAIL)\"")));
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        StepVerifier.create(employeeService.saveEmployee(employee))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+
+    }
+
+    //JUnit test for get All employee method
+    @DisplayName("JUnit test for get All employee method")
+    @Test
+    void givenEmployeeList_whenAllEmployees_thenReturnAllEmployee(){
+        //given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .firstName("Ramesh")
+                .id(2L)
+                .lastName("Kumar")
+                .email("ramesh@gmail.com")
+                .build();
+        given(employeeRepository.findAll()).willReturn(Flux.just(employee, employee1));
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        StepVerifier.create(employeeService.getAllEmployee())
+                .expectNext(employee, employee1)
+                .verifyComplete();
+
+    }
+
+    //JUnit test for get employee by id method
+    @DisplayName("JUnit test for get employee by id method")
+    @Test
+    void givenEmployeeId_whenGetEmployeeById_thenReturnEmployeeObject(){
+        //given - precondition or setup
+        given(employeeRepository.findById(1L)).willReturn(Mono.just(employee));
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        StepVerifier.create(employeeService.getEmployeeById(1L))
+                .expectNext(employee)
+                .verifyComplete();
+
+    }
+
+    //JUnit test for delete employee by id method
+    @DisplayName("JUnit test for delete employee by id method")
+    @Test
+    void givenEmployeeId_whenDeleteEmployee_thenNothing(){
+        //given - precondition or setup
+        given(employeeRepository.deleteById(1L)).willReturn(Mono.empty());
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        StepVerifier.create(employeeService.deleteEmployee(1L))
+                .verifyComplete();
+
+    }
+
+    //JUnit test for conditional update employee method
+    @DisplayName("JUnit test for conditional update employee method")
+    @Test
+    void givenMatchingVersion_whenUpdateEmployee_thenReturnEmployeeWithNextVersion(){
+        //given - precondition or setup
+        given(employeeRepository.updateIfVersionMatches(1L, 2L, "Ram", "Kumar", "ram@gmail.com")).willReturn(Mono.just(1));
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        StepVerifier.create(employeeService.updateEmployee(1L, employee, 2L))
+                .assertNext(updatedEmployee -> org.assertj.core.api.Assertions.assertThat(updatedEmployee.getVersion()).isEqualTo(3L))
+                .verifyComplete();
+
+    }
+
+    //JUnit test for conditional update employee method with a stale version
+    @DisplayName("JUnit test for conditional update employee method with a stale version")
+    @Test
+    void givenStaleVersion_whenUpdateEmployee_thenThrowsOptimisticLockingFailure(){
+        //given - precondition or setup
+        given(employeeRepository.updateIfVersionMatches(1L, 1L, "Ram", "Kumar", "ram@gmail.com")).willReturn(Mono.just(0));
+        given(employeeRepository.existsById(1L)).willReturn(Mono.just(true));
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        StepVerifier.create(employeeService.updateEmployee(1L, employee, 1L))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+
+    }
+
+    //JUnit test for update employee method with a deleted employee
+    @DisplayName("JUnit test for update employee method with a deleted employee")
+    @Test
+    void givenDeletedEmployee_whenUpdateEmployee_thenThrowsOptimisticLockingFailure(){
+        //given - precondition or setup
+        given(employeeRepository.updateIfVersionMatches(1L, 0L, "Ram", "Kumar", "ram@gmail.com")).willReturn(Mono.just(0));
+        given(employeeRepository.existsById(1L)).willReturn(Mono.just(false));
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        StepVerifier.create(employeeService.updateEmployee(employee))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+
+    }
+}
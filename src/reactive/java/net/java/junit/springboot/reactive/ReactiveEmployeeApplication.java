@@ -0,0 +1,40 @@
+package net.java.junit.springboot.reactive;
+
+import net.java.junit.springboot.model.Employee;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.relational.core.mapping.NamingStrategy;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+//Runs the employee API on WebFlux and R2DBC; scans only this package, so none of the
+//blocking MVC/JPA beans are created
+@SpringBootApplication(exclude = {DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class})
+public class ReactiveEmployeeApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveEmployeeApplication.class)
+                .profiles("reactive")
+                .run(args);
+    }
+
+    //Tomcat is on the classpath for the MVC stack; serve the reactive stack from Netty
+    @Bean
+    NettyReactiveWebServerFactory nettyReactiveWebServerFactory(){
+        return new NettyReactiveWebServerFactory();
+    }
+
+    //Employee is shared with the JPA stack; map it onto the same employees table
+    @Bean
+    NamingStrategy employeeNamingStrategy(){
+        return new NamingStrategy() {
+            @Override
+            public String getTableName(Class<?> type) {
+                return type == Employee.class ? "employees" : NamingStrategy.super.getTableName(type);
+            }
+        };
+    }
+}
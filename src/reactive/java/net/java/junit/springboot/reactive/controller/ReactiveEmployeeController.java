@@ -0,0 +1,83 @@
+package net.java.junit.springboot.reactive.controller;
+
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.reactive.service.ReactiveEmployeeService;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/employees")
+public class ReactiveEmployeeController {
+    private final ReactiveEmployeeService employeeService;
+
+    public ReactiveEmployeeController(ReactiveEmployeeService employeeService){
+        this.employeeService = employeeService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Employee> createEmployee(@RequestBody Employee employee){
+        return employeeService.saveEmployee(employee);
+    }
+
+    //Serialized as a JSON array, or streamed row by row for Accept: application/x-ndjson
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Employee> getAllEmployees(){
+        return employeeService.getAllEmployee();
+    }
+
+    @GetMapping(params = "email")
+    public Mono<ResponseEntity<Employee>> getEmployeeByEmail(@RequestParam("email") String email){
+        return employeeService.getEmployeeByEmail(email)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable("id") long employeeId){
+        return employeeService.getEmployeeById(employeeId)
+                .map(employee -> ResponseEntity.ok().eTag(eTagOf(employee)).body(employee))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    //Send the ETag of the last read as If-Match to get a conditional update (412 on conflict)
+    @PutMapping("{id}")
+    public Mono<ResponseEntity<Employee>> updateEmployee(@PathVariable("id") long employeeId, @RequestBody Employee employee,
+                                                         @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        Mono<Employee> updatedEmployee = ifMatch == null || ifMatch.equals("*")
+                ? employeeService.updateEmployee(employeeId, employee)
+                : Mono.defer(() -> employeeService.updateEmployee(employeeId, employee, versionOf(ifMatch)));
+        return updatedEmployee
+                .map(updated -> ResponseEntity.ok().eTag(eTagOf(updated)).body(updated))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> handleOptimisticLockingFailure(){
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+    }
+
+    private static String eTagOf(Employee employee){
+        return "\"" + employee.getVersion() + "\"";
+    }
+
+    private static long versionOf(String ifMatch){
+        //If-Match uses strong comparison and only strong version ETags are issued,
+        //so weak or foreign tags can never match the current version
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        throw new OptimisticLockingFailureException("If-Match does not match any current version: " + ifMatch);
+    }
+}
@@ -0,0 +1,50 @@
+package net.java.junit.springboot.reactive.repository;
+
+import net.java.junit.springboot.model.Employee;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+//R2DBC counterpart of EmployeeRepository; R2DBC has no JPQL, so every custom query is SQL
+public interface ReactiveEmployeeRepository extends R2dbcRepository<Employee, Long> {
+
+    Mono<Employee> findByEmail(String email);
+
+    Flux<Employee> findByEmailIn(Collection<String> emails);
+
+    //Define custom query with index parameter (counterpart of the JPQL findByJPQL)
+    @Query("select * from employees e where e.first_name = $1 and e.last_name = $2")
+    Mono<Employee> findByJPQL(String firstName, String lastName);
+
+    //Define custom query with named parameter (counterpart of the JPQL findByNamedParams)
+    @Query("select * from employees e where e.first_name = :firstName and e.last_name = :lastName")
+    Mono<Employee> findByNamedParams(@Param("firstName") String firstName, @Param("lastName") String lastName);
+
+    //Define custom query using native sql query with indexed params
+    @Query("select * from employees e where e.first_name = $1 and e.last_name = $2")
+    Mono<Employee> findByNativeSQL(String firstName, String lastName);
+
+    //Define custom query using native sql query with named params
+    @Query("select * from employees e where e.first_name = :firstName and e.last_name = :lastName")
+    Mono<Employee> findByNativeSQLWithNamedParams(@Param("firstName") String firstName, @Param("lastName") String lastName);
+
+    //Optimistic update in one statement: only matches while the row still has the expected version
+    @Modifying
+    @Query("update employees set first_name = :firstName, last_name = :lastName, email = :email, " +
+            "version = version + 1 where id = :id and version = :version")
+    Mono<Integer> updateIfVersionMatches(@Param("id") long id, @Param("version") long version,
+                                         @Param("firstName") String firstName, @Param("lastName") String lastName,
+                                         @Param("email") String email);
+
+    //Unconditional update for callers that do not send a version (last write wins)
+    @Modifying
+    @Query("update employees set first_name = :firstName, last_name = :lastName, email = :email, " +
+            "version = version + 1 where id = :id")
+    Mono<Integer> updateById(@Param("id") long id, @Param("firstName") String firstName,
+                             @Param("lastName") String lastName, @Param("email") String email);
+}
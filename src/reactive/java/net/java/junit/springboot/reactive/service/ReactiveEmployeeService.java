@@ -0,0 +1,13 @@
+package net.java.junit.springboot.reactive.service;
+
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.service.EmployeeOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+//Non-blocking form of the EmployeeOperations that EmployeeService implements on JDBC. It does not wrap the blocking
+//service, which would run JDBC on the event loop; the operations of EmployeeService that are not shared (batch
+//writes, lookups, projections, search) are not offered by this variant.
+public interface ReactiveEmployeeService extends EmployeeOperations<Mono<Employee>, Mono<Employee>, Flux<Employee>> {
+    Mono<Void> deleteEmployee(long id);
+}
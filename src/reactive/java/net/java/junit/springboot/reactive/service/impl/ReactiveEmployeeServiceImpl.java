@@ -0,0 +1,96 @@
+package net.java.junit.springboot.reactive.service.impl;
+
+import net.java.junit.springboot.exception.ResourceNotFoundException;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.reactive.repository.ReactiveEmployeeRepository;
+import net.java.junit.springboot.reactive.service.ReactiveEmployeeService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    private final ReactiveEmployeeRepository employeeRepository;
+
+    public ReactiveEmployeeServiceImpl(ReactiveEmployeeRepository employeeRepository){
+        this.employeeRepository = employeeRepository;
+    }
+
+    //Same contract as EmployeeServiceImpl: the unique index rejects duplicate emails
+    @Override
+    public Mono<Employee> saveEmployee(Employee employee) {
+        return employeeRepository.save(employee)
+                .onErrorMap(ReactiveEmployeeServiceImpl::isDuplicateEmail, e -> duplicateEmail(employee, e));
+    }
+
+    @Override
+    public Flux<Employee> getAllEmployee() {
+        return employeeRepository.findAll();
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(long id) {
+        return employeeRepository.findById(id);
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeByEmail(String email) {
+        return employeeRepository.findByEmail(email);
+    }
+
+    //Like the JPA merge behind EmployeeServiceImpl: a deleted employee fails the same way as a stale version
+    @Override
+    public Mono<Employee> updateEmployee(Employee updatedEmployee) {
+        return updateEmployee(updatedEmployee.getId(), updatedEmployee, updatedEmployee.getVersion())
+                .switchIfEmpty(Mono.error(() -> new OptimisticLockingFailureException(
+                        "Employee " + updatedEmployee.getId() + " was deleted concurrently")));
+    }
+
+    @Override
+    public Mono<Employee> updateEmployee(long id, Employee changes) {
+        return employeeRepository.updateById(id, changes.getFirstName(), changes.getLastName(), changes.getEmail())
+                .onErrorMap(ReactiveEmployeeServiceImpl::isDuplicateEmail, e -> duplicateEmail(changes, e))
+                .flatMap(updated -> updated == 0 ? Mono.<Employee>empty() : employeeRepository.findById(id));
+    }
+
+    @Override
+    public Mono<Employee> updateEmployee(long id, Employee changes, long expectedVersion) {
+        return employeeRepository.updateIfVersionMatches(id, expectedVersion,
+                        changes.getFirstName(), changes.getLastName(), changes.getEmail())
+                .onErrorMap(ReactiveEmployeeServiceImpl::isDuplicateEmail, e -> duplicateEmail(changes, e))
+                .flatMap(updated -> {
+                    if (updated == 1) {
+                        return Mono.just(Employee.builder()
+                                .id(id)
+                                .firstName(changes.getFirstName())
+                                .lastName(changes.getLastName())
+                                .email(changes.getEmail())
+                                .version(expectedVersion + 1)
+                                .build());
+                    }
+                    return employeeRepository.existsById(id)
+                            .flatMap(exists -> exists
+                                    ? Mono.error(new OptimisticLockingFailureException(
+                                            "Employee " + id + " was modified concurrently, expected version " + expectedVersion))
+                                    : Mono.empty());
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteEmployee(long id) {
+        return employeeRepository.deleteById(id);
+    }
+
+    private static boolean isDuplicateEmail(Throwable e) {
+        return e instanceof DataIntegrityViolationException
+                && e.getMessage() != null
+                && e.getMessage().toLowerCase().contains(Employee.EMAIL_UNIQUE_CONSTRAINT);
+    }
+
+    private static ResourceNotFoundException duplicateEmail(Employee employee, Throwable e) {
+        return new ResourceNotFoundException("Employee already exist with given email:" + employee.getEmail(), e);
+    }
+}
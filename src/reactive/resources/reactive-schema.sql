@@ -0,0 +1,11 @@
+-- Same shape as the table Hibernate generates for Employee on the JPA stack
+create table if not exists employees (
+    id bigint generated by default as identity primary key,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    email varchar(255) not null,
+    version bigint not null,
+    constraint uk_employees_email unique (email)
+);
+
+create index if not exists idx_employees_first_name_last_name on employees (first_name, last_name);
@@ -0,0 +1,53 @@
+package net.java.junit.springboot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class EmployeeMetricsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DisplayName("JUnit test for controller, service, repository, Hibernate and Hikari metrics")
+    @Test
+    void givenEmployeeRequests_whenScrapePrometheus_thenLatencyAndPoolMetricsExposed() throws Exception {
+        //given - precondition or setup
+        mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Ram\",\"lastName\":\"Kumar\",\"email\":\"metrics@gmail.com\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/employees").param("email", "metrics@gmail.com"))
+                .andExpect(status().isOk());
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("uri=\"/api/employees\"")))
+                .andExpect(content().string(containsString("employee_service_seconds_bucket")))
+                .andExpect(content().string(containsString("method=\"saveEmployee\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString("method=\"saveAndFlush\"")))
+                .andExpect(content().string(containsString("hibernate_statements_total")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("cache_gets_total")))
+                .andExpect(content().string(containsString("hibernate_cache_hit_ratio")));
+    }
+}
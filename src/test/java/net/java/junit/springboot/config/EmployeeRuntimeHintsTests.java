@@ -0,0 +1,41 @@
+package net.java.junit.springboot.config;
+
+import net.java.junit.springboot.dto.EmployeeCount;
+import net.java.junit.springboot.dto.EmployeeEmailView;
+import net.java.junit.springboot.dto.EmployeeNameView;
+import net.java.junit.springboot.dto.EmployeeVersionView;
+import net.java.junit.springboot.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeRuntimeHintsTests {
+
+    //JUnit test for native image reflection hints
+    @DisplayName("JUnit test for native image reflection hints")
+    @Test
+    void givenEmployeeRuntimeHints_whenRegisterHints_thenProjectionsAndEmployeeAreReflective(){
+        //given - precondition or setup
+        RuntimeHints hints = new RuntimeHints();
+
+        //when - action or the behaviour that are going to be tested
+        new EmployeeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        //then - verify the output
+        assertThat(RuntimeHintsPredicates.reflection().onType(EmployeeNameView.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(EmployeeEmailView.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(EmployeeCount.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(EmployeeVersionView.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(EmployeeCount.class, "count")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Employee.class, "getEmail")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("hibernate-cache.conf")).accepts(hints);
+    }
+}
@@ -0,0 +1,95 @@
+package net.java.junit.springboot.controller;
+
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import net.java.junit.springboot.etag.EmployeeJsonCache;
+import net.java.junit.springboot.etag.EmployeeVersionTracker;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = EmployeeController.class, properties = "employee.json-cache.enabled=true")
+@Import({EmployeeVersionTracker.class, EmployeeJsonCache.class})
+public class EmployeeControllerJsonCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeJsonCache jsonCache;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp(){
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email("ram@gmail.com")
+                .version(2L)
+                .build();
+        given(employeeService.getEmployeeById(1L)).willReturn(Optional.of(employee));
+    }
+
+    //JUnit test for get employee by id rest api served from the JSON cache
+    @DisplayName("JUnit test for get employee by id rest api served from the JSON cache")
+    @Test
+    void givenJsonAccept_whenGetEmployeeById_thenJsonIsCached() throws Exception {
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", 1L)
+                .header(HttpHeaders.ACCEPT, "application/x-jackson-smile;q=0.5, application/json"));
+
+        //then - verify the output
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.email", is("ram@gmail.com")));
+        assertThat(jsonCache.get(1L, 2L)).isPresent();
+
+    }
+
+    //JUnit test for get employee by id rest api with a client preferring Smile
+    @DisplayName("JUnit test for get employee by id rest api with a client preferring Smile")
+    @Test
+    void givenSmilePreferredOverJson_whenGetEmployeeById_thenSmileIsReturned() throws Exception {
+        //given - precondition or setup
+        jsonCache.put(employee);
+
+        //when - action or the behaviour that are going to be tested
+        MvcResult result = mockMvc.perform(get("/api/employees/{id}", 1L)
+                        .header(HttpHeaders.ACCEPT, "application/json;q=0.9, application/x-jackson-smile"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn();
+
+        //then - verify the output
+        Employee smileEmployee = new SmileMapper().readValue(result.getResponse().getContentAsByteArray(), Employee.class);
+        assertThat(smileEmployee.getEmail()).isEqualTo("ram@gmail.com");
+
+    }
+}
@@ -1,6 +1,14 @@
 package net.java.junit.springboot.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import net.java.junit.springboot.config.BinaryJsonConfig;
+import net.java.junit.springboot.dto.EmployeeBatchItemResult;
+import net.java.junit.springboot.dto.EmployeeEmailView;
+import net.java.junit.springboot.dto.EmployeeLookupRequest;
+import net.java.junit.springboot.dto.EmployeeLookupResult;
+import net.java.junit.springboot.dto.EmployeeNameView;
+import net.java.junit.springboot.etag.EmployeeVersionTracker;
 import net.java.junit.springboot.model.Employee;
 import net.java.junit.springboot.service.EmployeeService;
 import org.junit.jupiter.api.DisplayName;
@@ -9,22 +17,39 @@ import org.mockito.ArgumentMatchers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@WebMvcTest
+@WebMvcTest(EmployeeController.class)
+@Import({EmployeeVersionTracker.class, BinaryJsonConfig.class})
 public class EmployeeControllerTest {
 
     @Autowired
@@ -96,6 +121,7 @@ public class EmployeeControllerTest {
         //then - verify the output
         response.andExpect(status().isOk())
                 .andDo(print())
+                .andExpect(header().string("ETag", "\"0\""))
                 .andExpect(jsonPath("$.firstName", is("Ram")));
 
     }
@@ -124,13 +150,15 @@ public class EmployeeControllerTest {
     void givenUpdatedEmployee_whenUpdateEmployee_thenReturnUpdatedEmployee() throws Exception {
         //given - precondition or setup
         long employeeId = 1L;
-        Employee savedEmployee = Employee.builder().firstName("Ram").lastName("Kumar").email("ram@gmail.com").build();
-
         Employee updatedEmployee = Employee.builder().firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build();
 
-        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(savedEmployee));
-        given(employeeService.updateEmployee(ArgumentMatchers.any(Employee.class)))
-                .willAnswer((invocation) -> invocation.getArgument(0));
+        given(employeeService.updateEmployee(ArgumentMatchers.eq(employeeId), ArgumentMatchers.any(Employee.class)))
+                .willAnswer((invocation) -> {
+                    Employee changes = invocation.getArgument(1);
+                    changes.setId(employeeId);
+                    changes.setVersion(4L);
+                    return Optional.of(changes);
+                });
 
         //when - action or the behaviour that are going to be tested
         ResultActions response = mockMvc.perform(put("/api/employees/{id}", employeeId)
@@ -140,6 +168,7 @@ public class EmployeeControllerTest {
         //then - verify the output
         response.andExpect(status().isOk())
                 .andDo(print())
+                .andExpect(header().string("ETag", "\"4\""))
                 .andExpect(jsonPath("$.firstName", is("Ramesh")))
                 .andExpect(jsonPath("$.lastName", is("Kumar")))
                 .andExpect(jsonPath("$.email", is("ramesh@gmail.com")));
@@ -152,13 +181,10 @@ public class EmployeeControllerTest {
     void givenUpdatedEmployee_whenUpdateEmployee_thenReturnEmpty() throws Exception {
         //given - precondition or setup
         long employeeId = 3L;
-        Employee savedEmployee = Employee.builder().firstName("Ram").lastName("Kumar").email("ram@gmail.com").build();
-
         Employee updatedEmployee = Employee.builder().firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build();
 
-        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.empty());
-        given(employeeService.updateEmployee(ArgumentMatchers.any(Employee.class)))
-                .willAnswer((invocation) -> invocation.getArgument(0));
+        given(employeeService.updateEmployee(ArgumentMatchers.eq(employeeId), ArgumentMatchers.any(Employee.class)))
+                .willReturn(Optional.empty());
 
         //when - action or the behaviour that are going to be tested
         ResultActions response = mockMvc.perform(put("/api/employees/{id}", employeeId)
@@ -170,4 +196,427 @@ public class EmployeeControllerTest {
                 .andDo(print());
 
     }
+
+    //JUnit test for conditional update employee rest api
+    @DisplayName("JUnit test for conditional update employee rest api")
+    @Test
+    void givenMatchingVersion_whenUpdateEmployeeWithIfMatch_thenReturnUpdatedEmployee() throws Exception {
+        //given - precondition or setup
+        long employeeId = 1L;
+        Employee updatedEmployee = Employee.builder().firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build();
+
+        given(employeeService.updateEmployee(ArgumentMatchers.eq(employeeId), ArgumentMatchers.any(Employee.class),
+                ArgumentMatchers.eq(2L)))
+                .willAnswer((invocation) -> {
+                    Employee changes = invocation.getArgument(1);
+                    changes.setId(employeeId);
+                    changes.setVersion(3L);
+                    return Optional.of(changes);
+                });
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(put("/api/employees/{id}", employeeId)
+                .header("If-Match", "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.version", is(3)));
+
+    }
+
+    //JUnit test for conditional update employee rest api with a stale version
+    @DisplayName("JUnit test for conditional update employee rest api with a stale version")
+    @Test
+    void givenStaleVersion_whenUpdateEmployeeWithIfMatch_thenPreconditionFailed() throws Exception {
+        //given - precondition or setup
+        long employeeId = 1L;
+        Employee updatedEmployee = Employee.builder().firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build();
+
+        given(employeeService.updateEmployee(ArgumentMatchers.eq(employeeId), ArgumentMatchers.any(Employee.class),
+                ArgumentMatchers.eq(1L)))
+                .willThrow(new OptimisticLockingFailureException("modified concurrently"));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(put("/api/employees/{id}", employeeId)
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        //then - verify the output
+        response.andExpect(status().isPreconditionFailed());
+
+    }
+
+    //JUnit test for conditional update employee rest api with a weak ETag
+    @DisplayName("JUnit test for conditional update employee rest api with a weak ETag")
+    @Test
+    void givenWeakETag_whenUpdateEmployeeWithIfMatch_thenPreconditionFailed() throws Exception {
+        //given - precondition or setup
+        Employee updatedEmployee = Employee.builder().firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build();
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(put("/api/employees/{id}", 1L)
+                .header("If-Match", "W/\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        //then - verify the output
+        response.andExpect(status().isPreconditionFailed());
+
+    }
+
+    //JUnit test for get employees page rest api
+    @DisplayName("JUnit test for get employees page rest api")
+    @Test
+    void givenCursorAndSize_whenGetEmployeesPage_thenEmployeesAfterCursor() throws Exception {
+        //given - precondition or setup
+        List<Employee> listOfEmployees = List.of(
+                Employee.builder().id(6L).firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build());
+
+        given(employeeService.getEmployeesAfter(5L, 2)).willReturn(listOfEmployees);
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees")
+                .param("afterId", "5")
+                .param("size", "2"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].id", is(6)));
+
+    }
+
+    //JUnit test for streaming employees as NDJSON rest api
+    @DisplayName("JUnit test for streaming employees as NDJSON rest api")
+    @Test
+    void givenListOfEmployees_whenStreamEmployeesAsNdjson_thenOneEmployeePerLine() throws Exception {
+        //given - precondition or setup
+        List<Employee> listOfEmployees = List.of(
+                Employee.builder().id(1L).firstName("Ram").lastName("Kumar").email("ram@gmail.com").build(),
+                Employee.builder().id(2L).firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build());
+
+        willAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            listOfEmployees.forEach(consumer);
+            return null;
+        }).given(employeeService).streamAllEmployees(any());
+
+        //when - action or the behaviour that are going to be tested
+        MvcResult result = mockMvc.perform(get("/api/employees/stream")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then - verify the output
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        objectMapper.writeValueAsString(listOfEmployees.get(0)) + "\n"
+                                + objectMapper.writeValueAsString(listOfEmployees.get(1)) + "\n"));
+
+    }
+
+    //JUnit test for streaming employees as JSON array rest api
+    @DisplayName("JUnit test for streaming employees as JSON array rest api")
+    @Test
+    void givenListOfEmployees_whenStreamEmployeesAsJsonArray_thenEmployeesArray() throws Exception {
+        //given - precondition or setup
+        List<Employee> listOfEmployees = List.of(
+                Employee.builder().id(1L).firstName("Ram").lastName("Kumar").email("ram@gmail.com").build(),
+                Employee.builder().id(2L).firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build());
+
+        willAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            listOfEmployees.forEach(consumer);
+            return null;
+        }).given(employeeService).streamAllEmployees(any());
+
+        //when - action or the behaviour that are going to be tested
+        MvcResult result = mockMvc.perform(get("/api/employees/stream")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then - verify the output
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[1].email", is("ramesh@gmail.com")));
+
+    }
+
+    //JUnit test for batch create employees rest api
+    @DisplayName("JUnit test for batch create employees rest api")
+    @Test
+    void givenListOfEmployees_whenCreateEmployees_thenReturnPerItemResults() throws Exception {
+        //given - precondition or setup
+        Employee employee = Employee.builder().firstName("Ram").lastName("Kumar").email("ram@gmail.com").build();
+        Employee employee1 = Employee.builder().firstName("Ramesh").lastName("Kumar").email("ram@gmail.com").build();
+
+        given(employeeService.saveAllEmployees(ArgumentMatchers.anyList()))
+                .willReturn(List.of(EmployeeBatchItemResult.created(0, employee),
+                        EmployeeBatchItemResult.duplicate(1, employee1)));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(post("/api/employees/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(employee, employee1))));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[0].status", is("CREATED")))
+                .andExpect(jsonPath("$[1].status", is("DUPLICATE")));
+
+    }
+
+    //JUnit test for get employee by email rest api
+    @DisplayName("JUnit test for get employee by email rest api")
+    @Test
+    void givenEmployeeEmail_whenGetEmployeeByEmail_thenEmployeeObject() throws Exception {
+        //given - precondition or setup
+        Employee employee = Employee.builder().firstName("Ram").lastName("Kumar").email("ram@gmail.com").build();
+
+        given(employeeService.getEmployeeByEmail("ram@gmail.com")).willReturn(Optional.of(employee));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees").param("email", "ram@gmail.com"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.firstName", is("Ram")));
+
+    }
+
+    //JUnit test for get employee names rest api
+    @DisplayName("JUnit test for get employee names rest api")
+    @Test
+    void givenNameFields_whenGetAllEmployees_thenEmployeeNames() throws Exception {
+        //given - precondition or setup
+        given(employeeService.getAllEmployeeViews(EmployeeNameView.class))
+                .willReturn(List.of(new EmployeeNameView(1L, "Ram", "Kumar"), new EmployeeNameView(2L, "Ramesh", "Kumar")));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees").param("fields", "name"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[1].firstName", is("Ramesh")))
+                .andExpect(jsonPath("$[1]", not(hasKey("email"))));
+
+    }
+
+    //JUnit test for get employee names page rest api
+    @DisplayName("JUnit test for get employee names page rest api")
+    @Test
+    void givenNameFieldsAndCursor_whenGetEmployeesPage_thenEmployeeNamesAfterCursor() throws Exception {
+        //given - precondition or setup
+        given(employeeService.getEmployeeViewsAfter(1L, 5, EmployeeNameView.class))
+                .willReturn(List.of(new EmployeeNameView(2L, "Ramesh", "Kumar")));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees")
+                .param("fields", "name")
+                .param("afterId", "1")
+                .param("size", "5"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].id", is(2)));
+
+    }
+
+    //JUnit test for get employee email by id rest api
+    @DisplayName("JUnit test for get employee email by id rest api")
+    @Test
+    void givenEmailFields_whenGetEmployeeById_thenEmployeeEmail() throws Exception {
+        //given - precondition or setup
+        given(employeeService.getEmployeeViewById(1L, EmployeeEmailView.class))
+                .willReturn(Optional.of(new EmployeeEmailView(1L, "ram@gmail.com")));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", 1L).param("fields", "email"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.email", is("ram@gmail.com")))
+                .andExpect(jsonPath("$", not(hasKey("firstName"))));
+
+    }
+
+    //JUnit test for get employees with unknown fields rest api
+    @DisplayName("JUnit test for get employees with unknown fields rest api")
+    @Test
+    void givenUnknownFields_whenGetAllEmployees_thenBadRequest() throws Exception {
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees").param("fields", "salary"));
+
+        //then - verify the output
+        response.andExpect(status().isBadRequest());
+
+    }
+
+    //JUnit test for get employee by email with fields rest api
+    @DisplayName("JUnit test for get employee by email with fields rest api")
+    @Test
+    void givenEmailAndFields_whenGetEmployees_thenBadRequest() throws Exception {
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees")
+                .param("email", "ramesh@gmail.com")
+                .param("fields", "name"));
+
+        //then - verify the output
+        response.andExpect(status().isBadRequest());
+        verifyNoInteractions(employeeService);
+
+    }
+
+    //JUnit test for search employees rest api
+    @DisplayName("JUnit test for search employees rest api")
+    @Test
+    void givenQuery_whenSearchEmployees_thenReturnRankedEmployees() throws Exception {
+        //given - precondition or setup
+        List<Employee> listOfEmployees = List.of(
+                Employee.builder().id(1L).firstName("Ram").lastName("Kumar").email("ram@gmail.com").build(),
+                Employee.builder().id(2L).firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build());
+        given(employeeService.searchEmployees("ram", 100)).willReturn(listOfEmployees);
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees/search")
+                .param("q", "ram")
+                .param("limit", "500"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[0].firstName", is("Ram")));
+
+    }
+
+    //JUnit test for conditional get employee by id rest api
+    @DisplayName("JUnit test for conditional get employee by id rest api")
+    @Test
+    void givenKnownVersion_whenGetEmployeeByIdWithIfNoneMatch_thenNotModified() throws Exception {
+        //given - precondition or setup
+        long employeeId = 101L;
+        Employee employee = Employee.builder().id(employeeId).firstName("Ram").lastName("Kumar")
+                .email("ram@gmail.com").version(3L).build();
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(employee));
+        mockMvc.perform(get("/api/employees/{id}", employeeId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId)
+                .header("If-None-Match", "\"3\""));
+
+        //then - verify the output
+        response.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(employeeService, times(1)).getEmployeeById(employeeId);
+
+    }
+
+    //JUnit test for conditional get all employees rest api
+    @DisplayName("JUnit test for conditional get all employees rest api")
+    @Test
+    void givenCollectionETag_whenGetAllEmployeesWithIfNoneMatch_thenNotModified() throws Exception {
+        //given - precondition or setup
+        given(employeeService.getAllEmployee()).willReturn(List.of(
+                Employee.builder().id(1L).firstName("Ram").lastName("Kumar").email("ram@gmail.com").build()));
+        String eTag = mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees").header("If-None-Match", eTag));
+
+        //then - verify the output
+        response.andExpect(status().isNotModified());
+        verify(employeeService, times(1)).getAllEmployee();
+
+    }
+
+    //JUnit test for lookup employees rest api
+    @DisplayName("JUnit test for lookup employees rest api")
+    @Test
+    void givenIdsAndEmails_whenLookupEmployees_thenReturnFoundAndMissing() throws Exception {
+        //given - precondition or setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email("ram@gmail.com")
+                .build();
+        given(employeeService.lookupEmployees(List.of(1L, 2L), List.of("ram@gmail.com")))
+                .willReturn(new EmployeeLookupResult(List.of(employee), List.of(2L), List.of()));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(post("/api/employees/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new EmployeeLookupRequest(List.of(1L, 2L), List.of("ram@gmail.com")))));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.employees.size()", is(1)))
+                .andExpect(jsonPath("$.employees[0].email", is("ram@gmail.com")))
+                .andExpect(jsonPath("$.missingIds[0]", is(2)))
+                .andExpect(jsonPath("$.missingEmails.size()", is(0)));
+
+    }
+
+    //JUnit test for lookup employees rest api with too many keys
+    @DisplayName("JUnit test for lookup employees rest api with too many keys")
+    @Test
+    void givenTooManyKeys_whenLookupEmployees_thenBadRequest() throws Exception {
+        //given - precondition or setup
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(post("/api/employees/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":" + objectMapper.writeValueAsString(ids) + "}"));
+
+        //then - verify the output
+        response.andExpect(status().isBadRequest());
+        verify(employeeService, times(0)).lookupEmployees(any(), any());
+
+    }
+
+    //JUnit test for Smile content negotiation on get all employees rest api
+    @DisplayName("JUnit test for Smile content negotiation on get all employees rest api")
+    @Test
+    void givenSmileAccept_whenGetAllEmployees_thenReturnSmileEncodedEmployees() throws Exception {
+        //given - precondition or setup
+        List<Employee> listOfEmployees = List.of(
+                Employee.builder().id(1L).firstName("Ram").lastName("Kumar").email("ram@gmail.com").build(),
+                Employee.builder().id(2L).firstName("Sita").lastName("Devi").email("sita@gmail.com").build());
+        given(employeeService.getAllEmployee()).willReturn(listOfEmployees);
+
+        //when - action or the behaviour that are going to be tested
+        MvcResult result = mockMvc.perform(get("/api/employees")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn();
+
+        //then - verify the output
+        Employee[] employees = new SmileMapper().readValue(result.getResponse().getContentAsByteArray(), Employee[].class);
+        assertThat(employees).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(listOfEmployees);
+    }
 }
@@ -0,0 +1,128 @@
+package net.java.junit.springboot.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.java.junit.springboot.dto.WriteTicket;
+import net.java.junit.springboot.exception.WriteBehindQueueFullException;
+import net.java.junit.springboot.etag.EmployeeVersionTracker;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.service.EmployeeService;
+import net.java.junit.springboot.writebehind.EmployeeWriteBehind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EmployeeController.class)
+@Import(EmployeeVersionTracker.class)
+public class EmployeeControllerWriteBehindTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @MockBean
+    private EmployeeWriteBehind writeBehind;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    //JUnit test for create employee rest api in write-behind mode
+    @DisplayName("JUnit test for create employee rest api in write-behind mode")
+    @Test
+    void givenEmployeeObject_whenCreateEmployee_thenReturnTicket() throws Exception {
+        //given - precondition or setup
+        Employee employee = Employee.builder().firstName("Ram").lastName("Kumar").email("ram@gmail.com").build();
+        given(writeBehind.submitCreate(ArgumentMatchers.any(Employee.class))).willReturn(WriteTicket.queued(42L, null));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(post("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        //then - verify the output
+        response.andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/employees/writes/42"))
+                .andExpect(jsonPath("$.status", is("QUEUED")));
+        verifyNoInteractions(employeeService);
+
+    }
+
+    //JUnit test for update employee rest api in write-behind mode
+    @DisplayName("JUnit test for update employee rest api in write-behind mode")
+    @Test
+    void givenUpdatedEmployee_whenUpdateEmployee_thenReturnTicket() throws Exception {
+        //given - precondition or setup
+        Employee employee = Employee.builder().firstName("Ram").lastName("Kumar").email("ram@gmail.com").build();
+        given(writeBehind.submitUpdate(ArgumentMatchers.eq(1L), ArgumentMatchers.any(Employee.class)))
+                .willReturn(WriteTicket.queued(43L, 1L));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(put("/api/employees/{id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        //then - verify the output
+        response.andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.employeeId", is(1)));
+
+    }
+
+    //JUnit test for create employee rest api with a full write-behind queue
+    @DisplayName("JUnit test for create employee rest api with a full write-behind queue")
+    @Test
+    void givenFullQueue_whenCreateEmployee_thenServiceUnavailable() throws Exception {
+        //given - precondition or setup
+        Employee employee = Employee.builder().firstName("Ram").lastName("Kumar").email("ram@gmail.com").build();
+        given(writeBehind.submitCreate(ArgumentMatchers.any(Employee.class)))
+                .willThrow(new WriteBehindQueueFullException("full"));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(post("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        //then - verify the output
+        response.andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+    }
+
+    //JUnit test for write ticket status rest api
+    @DisplayName("JUnit test for write ticket status rest api")
+    @Test
+    void givenCommittedTicket_whenGetWriteTicket_thenReturnEmployeeId() throws Exception {
+        //given - precondition or setup
+        given(writeBehind.getTicket(42L)).willReturn(Optional.of(WriteTicket.committed(42L, 7L)));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees/writes/{ticket}", 42L));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.status", is("COMMITTED")))
+                .andExpect(jsonPath("$.employeeId", is(7)));
+
+    }
+}
@@ -0,0 +1,72 @@
+package net.java.junit.springboot.controller;
+
+import net.java.junit.springboot.dto.EmployeeCount;
+import net.java.junit.springboot.dto.EmployeeStats;
+import net.java.junit.springboot.service.EmployeeStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EmployeeStatsController.class)
+public class EmployeeStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeStatsService statsService;
+
+    //JUnit test for email domain stats rest api
+    @DisplayName("JUnit test for email domain stats rest api")
+    @Test
+    void givenEmployees_whenCountByEmailDomain_thenReturnCountsAndTiming() throws Exception {
+        //given - precondition or setup
+        given(statsService.countByEmailDomain(100)).willReturn(new EmployeeStats("email-domains", "database", 0,
+                List.of(new EmployeeCount("gmail.com", 2)), 1.5));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees/stats/email-domains"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.counts[0].key", is("gmail.com")))
+                .andExpect(jsonPath("$.counts[0].count", is(2)))
+                .andExpect(jsonPath("$.millis", is(1.5)))
+                .andExpect(header().string("Server-Timing", "database;dur=1.500"));
+    }
+
+    //JUnit test for duplicate name stats rest api with a limit
+    @DisplayName("JUnit test for duplicate name stats rest api with a limit")
+    @Test
+    void givenLimitAboveMaximum_whenFindDuplicateNames_thenLimitIsCapped() throws Exception {
+        //given - precondition or setup
+        given(statsService.findDuplicateNames(1000)).willReturn(new EmployeeStats("duplicate-names", "fork-join", 8,
+                List.of(new EmployeeCount("ram kumar", 3)), 12.0));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees/stats/duplicate-names")
+                .param("limit", "5000"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.computedBy", is("fork-join")))
+                .andExpect(jsonPath("$.parallelism", is(8)))
+                .andExpect(jsonPath("$.counts[0].count", is(3)));
+    }
+}
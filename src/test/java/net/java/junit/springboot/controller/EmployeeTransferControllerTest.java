@@ -0,0 +1,108 @@
+package net.java.junit.springboot.controller;
+
+import net.java.junit.springboot.dto.EmployeeImportResult;
+import net.java.junit.springboot.service.EmployeeTransferService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EmployeeTransferController.class)
+public class EmployeeTransferControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeTransferService transferService;
+
+    //JUnit test for CSV import rest api
+    @DisplayName("JUnit test for CSV import rest api")
+    @Test
+    void givenCsvBody_whenImportEmployees_thenReturnImportSummary() throws Exception {
+        //given - precondition or setup
+        given(transferService.importEmployees(any(), ArgumentMatchers.eq(EmployeeTransferService.Format.CSV)))
+                .willReturn(new EmployeeImportResult(2, 1, 1, 0,
+                        List.of(new EmployeeImportResult.RowError(3, "Employee already exist with given email:ram@gmail.com")),
+                        5, 400.0));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(post("/api/employees/import")
+                .contentType("text/csv")
+                .content("firstName,lastName,email\nRam,Kumar,ram@gmail.com\nRam,Kumar,ram@gmail.com\n"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.duplicates", is(1)))
+                .andExpect(jsonPath("$.errors[0].line", is(3)));
+
+    }
+
+    //JUnit test for import rest api with a bad CSV header
+    @DisplayName("JUnit test for import rest api with a bad CSV header")
+    @Test
+    void givenBadCsvHeader_whenImportEmployees_thenBadRequest() throws Exception {
+        //given - precondition or setup
+        given(transferService.importEmployees(any(), any()))
+                .willThrow(new IllegalArgumentException("CSV header must name the firstName, lastName and email columns"));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(post("/api/employees/import")
+                .contentType("text/csv")
+                .content("name\nRam\n"));
+
+        //then - verify the output
+        response.andExpect(status().isBadRequest());
+
+    }
+
+    //JUnit test for CSV export rest api
+    @DisplayName("JUnit test for CSV export rest api")
+    @Test
+    void givenEmployees_whenExportEmployees_thenStreamCsvAttachment() throws Exception {
+        //given - precondition or setup
+        willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write("id,firstName,lastName,email\n1,Ram,Kumar,ram@gmail.com\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).given(transferService).exportEmployees(any(), ArgumentMatchers.eq(EmployeeTransferService.Format.CSV));
+
+        //when - action or the behaviour that are going to be tested
+        MvcResult mvcResult = mockMvc.perform(get("/api/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(mvcResult));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"employees.csv\""))
+                .andExpect(content().string("id,firstName,lastName,email\n1,Ram,Kumar,ram@gmail.com\n"));
+
+    }
+}
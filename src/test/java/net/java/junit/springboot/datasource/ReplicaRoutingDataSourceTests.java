@@ -0,0 +1,212 @@
+package net.java.junit.springboot.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//Primary and replicas are separate in-memory H2 databases, so DATABASE() tells which one served a query
+public class ReplicaRoutingDataSourceTests {
+
+    private ReadYourWrites readYourWrites;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate readOnly;
+
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp(){
+        readYourWrites = new ReadYourWrites(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown(){
+        readYourWrites.end();
+    }
+
+    //JUnit test for read-only transactions on replicas
+    @DisplayName("JUnit test for read-only transactions on replicas")
+    @Test
+    void givenReadOnlyTransactions_whenQuery_thenRunOnReplicasRoundRobin(){
+        //given - precondition or setup
+        route(h2("rw-primary"), h2("rw-replica-a"), h2("rw-replica-b"));
+
+        //when - action or the behaviour that are going to be tested
+        List<String> databases = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            databases.add(readOnly.execute(status -> currentDatabase()));
+        }
+
+        //then - verify the output
+        assertThat(databases).containsExactly("RW-REPLICA-A", "RW-REPLICA-B", "RW-REPLICA-A", "RW-REPLICA-B");
+        assertThat(routingDataSource.connectionCount(ReplicaRoutingDataSource.PRIMARY)).isZero();
+    }
+
+    //JUnit test for read-write transactions on the primary
+    @DisplayName("JUnit test for read-write transactions on the primary")
+    @Test
+    void givenReadWriteTransaction_whenQuery_thenRunsOnPrimary(){
+        //given - precondition or setup
+        route(h2("rw-primary"), h2("rw-replica-a"));
+
+        //when - action or the behaviour that are going to be tested
+        String database = readWrite.execute(status -> currentDatabase());
+
+        //then - verify the output
+        assertThat(database).isEqualTo("RW-PRIMARY");
+    }
+
+    //JUnit test for read-your-writes stickiness
+    @DisplayName("JUnit test for read-your-writes stickiness")
+    @Test
+    void givenWriteByThisClient_whenReadOnlyTransaction_thenRunsOnPrimary(){
+        //given - precondition or setup
+        route(h2("rw-primary"), h2("rw-replica-a"));
+        readYourWrites.markWrite();
+
+        //when - action or the behaviour that are going to be tested
+        String database = readOnly.execute(status -> currentDatabase());
+
+        //then - verify the output
+        assertThat(database).isEqualTo("RW-PRIMARY");
+    }
+
+    //JUnit test for falling back when replicas are down
+    @DisplayName("JUnit test for falling back when replicas are down")
+    @Test
+    void givenReplicaDown_whenReadOnlyTransactions_thenOtherReplicaThenPrimary(){
+        //given - precondition or setup
+        route(h2("rw-primary"), unreachable("rw-replica-down"), h2("rw-replica-b"));
+
+        //when - action or the behaviour that are going to be tested
+        String first = readOnly.execute(status -> currentDatabase());
+        routingDataSource.checkReplicas();
+        String second = readOnly.execute(status -> currentDatabase());
+        String third = readOnly.execute(status -> currentDatabase());
+
+        //then - verify the output
+        assertThat(List.of(first, second, third)).containsOnly("RW-REPLICA-B");
+        assertThat(routingDataSource.replicaHealth()).containsEntry("replica-0", false).containsEntry("replica-1", true);
+
+        //given - precondition or setup
+        route(h2("rw-primary"), unreachable("rw-replica-down"));
+
+        //when - action or the behaviour that are going to be tested
+        String fallback = readOnly.execute(status -> currentDatabase());
+
+        //then - verify the output
+        assertThat(fallback).isEqualTo("RW-PRIMARY");
+    }
+
+    //JUnit test for a replica whose pool has no free connection
+    @DisplayName("JUnit test for a replica whose pool has no free connection")
+    @Test
+    void givenReplicaPoolExhausted_whenReadOnlyTransaction_thenOtherReplicaAndReplicaStaysUp(){
+        //given - precondition or setup
+        route(h2("rw-primary"), busy(), h2("rw-replica-b"));
+
+        //when - action or the behaviour that are going to be tested
+        String database = readOnly.execute(status -> currentDatabase());
+
+        //then - verify the output
+        assertThat(database).isEqualTo("RW-REPLICA-B");
+        assertThat(routingDataSource.replicaHealth()).containsEntry("replica-0", true).containsEntry("replica-1", true);
+    }
+
+    //JUnit test for connections with other credentials
+    @DisplayName("JUnit test for connections with other credentials")
+    @Test
+    void givenRoutingDataSource_whenGetConnectionWithCredentials_thenNotSupported(){
+        //given - precondition or setup
+        route(h2("rw-primary"), h2("rw-replica-a"));
+
+        //when - action or the behaviour that are going to be tested
+        org.junit.jupiter.api.Assertions.assertThrows(SQLFeatureNotSupportedException.class, ()->{
+            routingDataSource.getConnection("sa", "");
+        });
+    }
+
+    //JUnit test for the read-your-writes cookie
+    @DisplayName("JUnit test for the read-your-writes cookie")
+    @Test
+    void givenWriteDuringRequest_whenNextRequestSendsCookie_thenClientIsSticky(){
+        //given - precondition or setup
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        readYourWrites.begin(new MockHttpServletRequest(), writeResponse);
+        readYourWrites.markWrite();
+        readYourWrites.end();
+        Cookie cookie = writeResponse.getCookie(ReadYourWrites.COOKIE);
+
+        //when - action or the behaviour that are going to be tested
+        MockHttpServletRequest nextRequest = new MockHttpServletRequest();
+        nextRequest.setCookies(cookie);
+        readYourWrites.begin(nextRequest, new MockHttpServletResponse());
+        boolean sticky = readYourWrites.isSticky();
+        readYourWrites.end();
+        readYourWrites.begin(new MockHttpServletRequest(), new MockHttpServletResponse());
+        boolean otherClientSticky = readYourWrites.isSticky();
+
+        //then - verify the output
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getMaxAge()).isEqualTo(5);
+        assertThat(sticky).isTrue();
+        assertThat(otherClientSticky).isFalse();
+    }
+
+    private void route(DataSource primary, DataSource... replicas){
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replicas), readYourWrites);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    private String currentDatabase(){
+        return jdbcTemplate.queryForObject("select database()", String.class);
+    }
+
+    private static DataSource h2(String name){
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    //Fails like a Hikari pool whose connections are all in use
+    private static DataSource busy(){
+        return new DriverManagerDataSource("jdbc:h2:mem:rw-replica-busy") {
+            @Override
+            public Connection getConnection() throws SQLException {
+                throw new SQLTransientConnectionException("Connection is not available, request timed out after 30000ms.");
+            }
+        };
+    }
+
+    //IFEXISTS refuses to create the database, so every connection attempt fails like a replica that is down
+    private static DataSource unreachable(String name){
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";IFEXISTS=TRUE", "sa", "");
+    }
+}
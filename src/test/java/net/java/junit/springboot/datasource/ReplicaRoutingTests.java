@@ -0,0 +1,104 @@
+package net.java.junit.springboot.datasource;
+
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//The replicas profile setup: two read-only pools on the primary's in-memory database plus one replica that is down
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1",
+        "employee.datasource.replicas.enabled=true",
+        "employee.datasource.replicas.urls=jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1,"
+                + "jdbc:h2:mem:replica-routing-down;IFEXISTS=TRUE,jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1",
+        "employee.datasource.replicas.connection-timeout=250ms",
+        "employee.cache.enabled=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+public class ReplicaRoutingTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+
+    @AfterEach
+    void tearDown(){
+        readYourWrites.end();
+    }
+
+    //JUnit test for service reads on the read replicas
+    @DisplayName("JUnit test for service reads on the read replicas")
+    @Test
+    void givenReadOnlyServiceMethods_whenCalled_thenConnectionsComeFromReplicas(){
+        //given - precondition or setup
+        long primaryBefore = replicaRoutingDataSource.connectionCount(ReplicaRoutingDataSource.PRIMARY);
+        long replicasBefore = replicaConnections();
+
+        //when - action or the behaviour that are going to be tested
+        for (int i = 0; i < 4; i++) {
+            employeeService.getAllEmployee();
+            employeeService.getEmployeeById(1L);
+        }
+
+        //then - verify the output
+        assertThat(replicaConnections() - replicasBefore).isEqualTo(8);
+        assertThat(replicaRoutingDataSource.connectionCount(ReplicaRoutingDataSource.PRIMARY)).isEqualTo(primaryBefore);
+        assertThat(replicaRoutingDataSource.replicaHealth()).containsEntry("replica-1", false);
+    }
+
+    //JUnit test for the email lookup on the read replicas
+    @DisplayName("JUnit test for the email lookup on the read replicas")
+    @Test
+    void givenGetEmployeeByEmail_whenCalled_thenConnectionComesFromReplica(){
+        //given - precondition or setup
+        long primaryBefore = replicaRoutingDataSource.connectionCount(ReplicaRoutingDataSource.PRIMARY);
+        long replicasBefore = replicaConnections();
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.getEmployeeByEmail("nobody@gmail.com");
+
+        //then - verify the output
+        assertThat(replicaConnections() - replicasBefore).isEqualTo(1);
+        assertThat(replicaRoutingDataSource.connectionCount(ReplicaRoutingDataSource.PRIMARY)).isEqualTo(primaryBefore);
+    }
+
+    //JUnit test for reading your own write from the primary
+    @DisplayName("JUnit test for reading your own write from the primary")
+    @Test
+    void givenSaveEmployee_whenReadBack_thenReadsFromPrimary(){
+        //given - precondition or setup
+        Employee employee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email("replica@gmail.com")
+                .build());
+        long replicasBefore = replicaConnections();
+
+        //when - action or the behaviour that are going to be tested
+        List<Employee> employees = employeeService.getAllEmployee();
+
+        //then - verify the output
+        assertThat(employees).extracting(Employee::getId).contains(employee.getId());
+        assertThat(replicaConnections()).isEqualTo(replicasBefore);
+    }
+
+    private long replicaConnections(){
+        return replicaRoutingDataSource.targets().stream()
+                .filter(target -> !ReplicaRoutingDataSource.PRIMARY.equals(target))
+                .mapToLong(replicaRoutingDataSource::connectionCount)
+                .sum();
+    }
+}
@@ -0,0 +1,120 @@
+package net.java.junit.springboot.directory;
+
+import jakarta.persistence.EntityManager;
+import net.java.junit.springboot.dto.EmployeeVersionView;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeDirectorySnapshotTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @TempDir
+    private Path directory;
+
+    //JUnit test for a warm start from a snapshot
+    @DisplayName("JUnit test for a warm start from a snapshot")
+    @Test
+    void givenSnapshot_whenStartedAndLoaded_thenServesBeforeLoadAndReloadsOnlyChangedRows() throws IOException {
+        //given - precondition or setup
+        Path file = directory.resolve("employees.snapshot");
+        OffHeapEmployeeStore previous = new OffHeapEmployeeStore(16);
+        previous.put(employee(1L, 0L, "Ram", "Kumar", "ram@gmail.com"));
+        previous.put(employee(2L, 0L, "Sita", "Devi", "sita@gmail.com"));
+        previous.put(employee(3L, 0L, "Hari", "Lal", "hari@gmail.com"));
+        previous.writeSnapshot(file);
+        given(employeeRepository.streamVersions()).willReturn(Stream.of(
+                new EmployeeVersionView(1L, 0L),
+                new EmployeeVersionView(2L, 1L),
+                new EmployeeVersionView(4L, 0L)));
+        given(employeeRepository.findAllById(List.of(2L, 4L))).willReturn(List.of(
+                employee(2L, 1L, "Sita", "Ram", "sita@gmail.com"),
+                employee(4L, 0L, "Gita", "Devi", "gita@gmail.com")));
+
+        //when - action or the behaviour that are going to be tested
+        EmployeeDirectory employeeDirectory = new EmployeeDirectory(employeeRepository, entityManager, properties(file));
+        boolean servedBeforeLoad = employeeDirectory.isLoaded() && employeeDirectory.getByEmail("hari@gmail.com").isPresent();
+        employeeDirectory.load();
+
+        //then - verify the output
+        assertThat(servedBeforeLoad).isTrue();
+        assertThat(employeeDirectory.getAll()).extracting(Employee::getLastName).containsExactly("Kumar", "Ram", "Devi");
+        assertThat(employeeDirectory.get(3L)).isEmpty();
+        verify(employeeRepository, never()).streamAll();
+    }
+
+    //JUnit test for a cold start from a damaged snapshot
+    @DisplayName("JUnit test for a cold start from a damaged snapshot")
+    @Test
+    void givenDamagedSnapshot_whenStarted_thenLoadsFromTheTableAndSavesANewSnapshot() throws IOException {
+        //given - precondition or setup
+        Path file = directory.resolve("employees.snapshot");
+        Files.write(file, new byte[]{1, 2, 3});
+        given(employeeRepository.streamAll()).willReturn(Stream.of(employee(1L, 0L, "Ram", "Kumar", "ram@gmail.com")));
+
+        //when - action or the behaviour that are going to be tested
+        EmployeeDirectory employeeDirectory = new EmployeeDirectory(employeeRepository, entityManager, properties(file));
+        boolean loadedBeforeLoad = employeeDirectory.isLoaded();
+        employeeDirectory.load();
+        employeeDirectory.saveSnapshot();
+
+        //then - verify the output
+        assertThat(loadedBeforeLoad).isFalse();
+        assertThat(employeeDirectory.get(1L)).isPresent();
+        assertThat(OffHeapEmployeeStore.openSnapshot(file).get(1L)).get().extracting(Employee::getEmail).isEqualTo("ram@gmail.com");
+    }
+
+    //JUnit test for the directory without a snapshot file
+    @DisplayName("JUnit test for the directory without a snapshot file")
+    @Test
+    void givenNoSnapshotFile_whenSaveSnapshot_thenNothingWritten(){
+        //given - precondition or setup
+        EmployeeDirectory employeeDirectory = new EmployeeDirectory(employeeRepository, entityManager,
+                new EmployeeDirectoryProperties(true, 16, null, Duration.ofMinutes(5)));
+
+        //when - action or the behaviour that are going to be tested
+        employeeDirectory.saveSnapshot();
+
+        //then - verify the output
+        assertThat(employeeDirectory.isLoaded()).isFalse();
+        verifyNoInteractions(employeeRepository);
+    }
+
+    private static EmployeeDirectoryProperties properties(Path file){
+        return new EmployeeDirectoryProperties(true, 16, file.toString(), Duration.ofMinutes(5));
+    }
+
+    private static Employee employee(long id, long version, String firstName, String lastName, String email){
+        return Employee.builder()
+                .id(id)
+                .version(version)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package net.java.junit.springboot.directory;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.java.junit.springboot.config.CacheConfig;
+import net.java.junit.springboot.dto.EmployeeLookupResult;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.service.EmployeeService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//The outbox relay is off, so every statement counted comes from the reads
+@SpringBootTest(properties = {
+        "employee.directory.enabled=true",
+        "employee.outbox.enabled=false"
+})
+public class EmployeeDirectoryTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeDirectory employeeDirectory;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    //JUnit test for service reads served by the off-heap directory
+    @DisplayName("JUnit test for service reads served by the off-heap directory")
+    @Test
+    void givenLoadedDirectory_whenGetEmployees_thenNoDatabaseRoundTrip(){
+        //given - precondition or setup
+        Employee employee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email("directory@gmail.com")
+                .build());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when - action or the behaviour that are going to be tested
+        Optional<Employee> byId = employeeService.getEmployeeById(employee.getId());
+        List<Employee> employees = employeeService.getAllEmployee();
+        EmployeeLookupResult lookup = employeeService.lookupEmployees(List.of(employee.getId()), List.of("directory@gmail.com"));
+
+        //then - verify the output
+        assertThat(employeeDirectory.isLoaded()).isTrue();
+        assertThat(byId).get().extracting(Employee::getEmail).isEqualTo("directory@gmail.com");
+        assertThat(employees).extracting(Employee::getId).contains(employee.getId());
+        assertThat(lookup.employees()).extracting(Employee::getId).containsExactly(employee.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID).get(employee.getId())).isNull();
+    }
+
+    //JUnit test for the directory following writes through the service
+    @DisplayName("JUnit test for the directory following writes through the service")
+    @Test
+    void givenUpdateAndDelete_whenGetEmployeeById_thenDirectoryIsCurrent(){
+        //given - precondition or setup
+        Employee employee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Sita")
+                .lastName("Devi")
+                .email("directory.update@gmail.com")
+                .build());
+        Employee other = employeeService.saveEmployee(Employee.builder()
+                .firstName("Hari")
+                .lastName("Lal")
+                .email("directory.delete@gmail.com")
+                .build());
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.updateEmployee(employee.getId(), Employee.builder()
+                .firstName("Sita")
+                .lastName("Ram")
+                .email("directory.update@gmail.com")
+                .build());
+        employeeService.deleteEmployee(other.getId());
+
+        //then - verify the output
+        assertThat(employeeService.getEmployeeById(employee.getId())).get()
+                .extracting(Employee::getLastName).isEqualTo("Ram");
+        assertThat(employeeService.getEmployeeById(other.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,250 @@
+package net.java.junit.springboot.directory;
+
+import net.java.junit.springboot.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class OffHeapEmployeeStoreTests {
+
+    private OffHeapEmployeeStore store;
+
+    @BeforeEach
+    void setUp(){
+        store = new OffHeapEmployeeStore(16);
+    }
+
+    //JUnit test for reading back a stored employee
+    @DisplayName("JUnit test for reading back a stored employee")
+    @Test
+    void givenStoredEmployee_whenGet_thenSameFields(){
+        //given - precondition or setup
+        store.put(employee(7L, 3L, "Rämesh", "Kumar", "ramesh@gmail.com"));
+
+        //when - action or the behaviour that are going to be tested
+        Optional<Employee> employee = store.get(7L);
+
+        //then - verify the output
+        assertThat(employee).get().usingRecursiveComparison()
+                .isEqualTo(employee(7L, 3L, "Rämesh", "Kumar", "ramesh@gmail.com"));
+        assertThat(store.get(8L)).isEmpty();
+    }
+
+    //JUnit test for updates and stale versions
+    @DisplayName("JUnit test for updates and stale versions")
+    @Test
+    void givenNewerAndOlderVersions_whenPut_thenNewestVersionKept(){
+        //given - precondition or setup
+        store.put(employee(1L, 0L, "Ram", "Kumar", "ram@gmail.com"));
+
+        //when - action or the behaviour that are going to be tested
+        store.put(employee(1L, 2L, "Ram", "Sharma", "ram.sharma@gmail.com"));
+        store.put(employee(1L, 1L, "Ram", "Stale", "stale@gmail.com"));
+
+        //then - verify the output
+        assertThat(store.get(1L)).get().extracting(Employee::getLastName).isEqualTo("Sharma");
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    //JUnit test for removed employees staying removed
+    @DisplayName("JUnit test for removed employees staying removed")
+    @Test
+    void givenRemovedEmployee_whenPutAgain_thenStillAbsent(){
+        //given - precondition or setup
+        store.put(employee(1L, 0L, "Ram", "Kumar", "ram@gmail.com"));
+        store.put(employee(2L, 0L, "Sita", "Devi", "sita@gmail.com"));
+
+        //when - action or the behaviour that are going to be tested
+        store.remove(1L);
+        store.remove(3L);
+        store.put(employee(1L, 0L, "Ram", "Kumar", "ram@gmail.com"));
+        store.put(employee(3L, 0L, "Hari", "Lal", "hari@gmail.com"));
+
+        //then - verify the output
+        assertThat(store.get(1L)).isEmpty();
+        assertThat(store.get(3L)).isEmpty();
+        assertThat(store.getAll()).extracting(Employee::getId).containsExactly(2L);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    //JUnit test for growing past the initial capacity
+    @DisplayName("JUnit test for growing past the initial capacity")
+    @Test
+    void givenManyEmployees_whenGetAll_thenAllInInsertionOrder(){
+        //given - precondition or setup
+        for (long id = 1; id <= 10_000; id++) {
+            store.put(employee(id, 0L, "First" + id, "Last" + id, "employee" + id + "@gmail.com"));
+        }
+
+        //when - action or the behaviour that are going to be tested
+        List<Employee> employees = store.getAll();
+
+        //then - verify the output
+        assertThat(employees).hasSize(10_000);
+        assertThat(employees.get(9_999).getEmail()).isEqualTo("employee10000@gmail.com");
+        assertThat(store.get(4_321L)).get().extracting(Employee::getFirstName).isEqualTo("First4321");
+    }
+
+    //JUnit test for rewriting the string area after many updates
+    @DisplayName("JUnit test for rewriting the string area after many updates")
+    @Test
+    void givenRepeatedUpdates_whenCompacted_thenLatestValuesAndBoundedMemory(){
+        //given - precondition or setup
+        for (long id = 1; id <= 100; id++) {
+            store.put(employee(id, 0L, "First" + id, "Last" + id, "employee" + id + "@gmail.com"));
+        }
+        store.remove(50L);
+        long offHeapBytes = store.offHeapBytes();
+
+        //when - action or the behaviour that are going to be tested
+        for (long version = 1; version <= 200; version++) {
+            for (long id = 1; id <= 100; id++) {
+                store.put(employee(id, version, "First" + id, "Last" + version, "employee" + id + "@gmail.com"));
+            }
+        }
+        store.compact();
+
+        //then - verify the output
+        assertThat(store.get(1L)).get().extracting(Employee::getLastName).isEqualTo("Last200");
+        assertThat(store.get(100L)).get().extracting(Employee::getVersion).isEqualTo(200L);
+        assertThat(store.get(50L)).isEmpty();
+        assertThat(store.getAll()).hasSize(99);
+        assertThat(store.offHeapBytes()).isLessThan(offHeapBytes * 4);
+    }
+
+    //JUnit test for looking up employees by email
+    @DisplayName("JUnit test for looking up employees by email")
+    @Test
+    void givenChangedAndRemovedEmails_whenGetByEmail_thenOnlyCurrentEmailsFound(){
+        //given - precondition or setup
+        for (long id = 1; id <= 1_000; id++) {
+            store.put(employee(id, 0L, "First" + id, "Last" + id, "employee" + id + "@gmail.com"));
+        }
+
+        //when - action or the behaviour that are going to be tested
+        store.put(employee(7L, 1L, "First7", "Last7", "seven@gmail.com"));
+        store.remove(8L);
+
+        //then - verify the output
+        assertThat(store.getByEmail("seven@gmail.com")).get().extracting(Employee::getId).isEqualTo(7L);
+        assertThat(store.getByEmail("employee7@gmail.com")).isEmpty();
+        assertThat(store.getByEmail("employee8@gmail.com")).isEmpty();
+        assertThat(store.getByEmail("employee999@gmail.com")).get().extracting(Employee::getId).isEqualTo(999L);
+    }
+
+    //JUnit test for writing and mapping a snapshot
+    @DisplayName("JUnit test for writing and mapping a snapshot")
+    @Test
+    void givenSnapshot_whenOpened_thenSameEmployeesAndStillWritable(@TempDir Path directory) throws IOException {
+        //given - precondition or setup
+        for (long id = 1; id <= 100; id++) {
+            store.put(employee(id, 0L, "First" + id, "Last" + id, "employee" + id + "@gmail.com"));
+        }
+        store.remove(50L);
+        Path file = directory.resolve("employees.snapshot");
+        store.writeSnapshot(file);
+
+        //when - action or the behaviour that are going to be tested
+        OffHeapEmployeeStore restored = OffHeapEmployeeStore.openSnapshot(file);
+        restored.put(employee(101L, 0L, "Ram", "Kumar", "ram@gmail.com"));
+        restored.put(employee(1L, 1L, "First1", "Sharma", "employee1@gmail.com"));
+
+        //then - verify the output
+        assertThat(restored.size()).isEqualTo(100);
+        assertThat(restored.get(50L)).isEmpty();
+        assertThat(restored.get(42L)).get().usingRecursiveComparison().isEqualTo(store.get(42L).get());
+        assertThat(restored.getByEmail("employee77@gmail.com")).get().extracting(Employee::getId).isEqualTo(77L);
+        assertThat(restored.getByEmail("ram@gmail.com")).get().extracting(Employee::getId).isEqualTo(101L);
+        assertThat(restored.get(1L)).get().extracting(Employee::getLastName).isEqualTo("Sharma");
+        assertThat(store.get(1L)).get().extracting(Employee::getLastName).isEqualTo("Last1");
+        assertThat(OffHeapEmployeeStore.openSnapshot(file).get(101L)).isEmpty();
+    }
+
+    //JUnit test for rejecting a damaged snapshot
+    @DisplayName("JUnit test for rejecting a damaged snapshot")
+    @Test
+    void givenDamagedSnapshot_whenOpened_thenThrowsIOException(@TempDir Path directory) throws IOException {
+        //given - precondition or setup
+        store.put(employee(1L, 0L, "Ram", "Kumar", "ram@gmail.com"));
+        Path file = directory.resolve("employees.snapshot");
+        store.writeSnapshot(file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+
+        //when - action or the behaviour that are going to be tested
+        Throwable thrown = catchThrowable(() -> OffHeapEmployeeStore.openSnapshot(file));
+
+        //then - verify the output
+        assertThat(thrown).isInstanceOf(IOException.class).hasMessageContaining("checksum");
+    }
+
+    //JUnit test for rejecting a snapshot with a damaged header
+    @DisplayName("JUnit test for rejecting a snapshot with a damaged header")
+    @Test
+    void givenSnapshotWithDamagedLiveCount_whenOpened_thenThrowsIOException(@TempDir Path directory) throws IOException {
+        //given - precondition or setup
+        store.put(employee(1L, 0L, "Ram", "Kumar", "ram@gmail.com"));
+        store.put(employee(2L, 0L, "Sita", "Devi", "sita@gmail.com"));
+        Path file = directory.resolve("employees.snapshot");
+        store.writeSnapshot(file);
+        byte[] bytes = Files.readAllBytes(file);
+        //Live count of the header: the size check cannot see it
+        bytes[15] ^= 1;
+        Files.write(file, bytes);
+
+        //when - action or the behaviour that are going to be tested
+        Throwable thrown = catchThrowable(() -> OffHeapEmployeeStore.openSnapshot(file));
+
+        //then - verify the output
+        assertThat(thrown).isInstanceOf(IOException.class).hasMessageContaining("checksum");
+    }
+
+    //JUnit test for reconciling a restored snapshot
+    @DisplayName("JUnit test for reconciling a restored snapshot")
+    @Test
+    void givenRestoredSnapshot_whenConfirmedAndDropped_thenOnlyTableRowsRemain(@TempDir Path directory) throws IOException {
+        //given - precondition or setup
+        for (long id = 1; id <= 4; id++) {
+            store.put(employee(id, 0L, "First" + id, "Last" + id, "employee" + id + "@gmail.com"));
+        }
+        Path file = directory.resolve("employees.snapshot");
+        store.writeSnapshot(file);
+        OffHeapEmployeeStore restored = OffHeapEmployeeStore.openSnapshot(file);
+        restored.put(employee(3L, 5L, "First3", "Updated", "employee3@gmail.com"));
+
+        //when - action or the behaviour that are going to be tested
+        boolean current = restored.confirm(1L, 0L);
+        boolean outdated = restored.confirm(2L, 1L);
+        boolean written = restored.confirm(3L, 4L);
+        restored.put(employee(2L, 1L, "First2", "Reloaded", "employee2@gmail.com"));
+        int dropped = restored.dropUnconfirmed();
+
+        //then - verify the output
+        assertThat(current).isTrue();
+        assertThat(outdated).isFalse();
+        assertThat(written).isTrue();
+        assertThat(dropped).isEqualTo(1);
+        assertThat(restored.getAll()).extracting(Employee::getLastName).containsExactly("Last1", "Reloaded", "Updated");
+    }
+
+    private static Employee employee(long id, long version, String firstName, String lastName, String email){
+        return Employee.builder()
+                .id(id)
+                .version(version)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .build();
+    }
+}
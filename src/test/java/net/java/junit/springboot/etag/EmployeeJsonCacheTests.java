@@ -0,0 +1,60 @@
+package net.java.junit.springboot.etag;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
+import net.java.junit.springboot.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeJsonCacheTests {
+
+    private EmployeeJsonCache jsonCache;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp(){
+        jsonCache = new EmployeeJsonCache(new ObjectMapper(), 100);
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email("ram@gmail.com")
+                .version(2L)
+                .build();
+    }
+
+    //JUnit test for cached JSON of the current version
+    @DisplayName("JUnit test for cached JSON of the current version")
+    @Test
+    void givenCachedEmployee_whenGet_thenOnlySameVersionIsServed(){
+        //given - precondition or setup
+        byte[] json = jsonCache.put(employee);
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        assertThat(new String(json, StandardCharsets.UTF_8)).contains("\"email\":\"ram@gmail.com\"");
+        assertThat(jsonCache.get(1L, 2L)).contains(json);
+        assertThat(jsonCache.get(1L, 1L)).isEmpty();
+    }
+
+    //JUnit test for invalidation on change
+    @DisplayName("JUnit test for invalidation on change")
+    @Test
+    void givenCachedEmployee_whenEmployeeChanged_thenEntryIsDropped(){
+        //given - precondition or setup
+        jsonCache.put(employee);
+
+        //when - action or the behaviour that are going to be tested
+        jsonCache.onEmployeeChanged(EmployeeChangedEvent.deleted(1L));
+
+        //then - verify the output
+        assertThat(jsonCache.get(1L, 2L)).isEmpty();
+    }
+}
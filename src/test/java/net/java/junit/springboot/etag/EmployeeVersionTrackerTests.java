@@ -0,0 +1,74 @@
+package net.java.junit.springboot.etag;
+
+import net.java.junit.springboot.event.EmployeeChangedEvent;
+import net.java.junit.springboot.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeVersionTrackerTests {
+
+    private EmployeeVersionTracker versionTracker;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp(){
+        versionTracker = new EmployeeVersionTracker();
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email("ram@gmail.com")
+                .version(2L)
+                .build();
+    }
+
+    //JUnit test for the collection ETag
+    @DisplayName("JUnit test for the collection ETag")
+    @Test
+    void givenCollectionETag_whenEmployeeChanged_thenETagChanges(){
+        //given - precondition or setup
+        String eTag = versionTracker.collectionETag();
+
+        //when - action or the behaviour that are going to be tested
+        versionTracker.onEmployeeChanged(EmployeeChangedEvent.created(employee));
+
+        //then - verify the output
+        assertThat(versionTracker.collectionETag()).isNotEqualTo(eTag).startsWith("\"").endsWith("\"");
+    }
+
+    //JUnit test for tracking employee versions
+    @DisplayName("JUnit test for tracking employee versions")
+    @Test
+    void givenOlderRead_whenRecordRead_thenNewestVersionIsKept(){
+        //given - precondition or setup
+        versionTracker.onEmployeeChanged(EmployeeChangedEvent.updated(employee));
+
+        //when - action or the behaviour that are going to be tested
+        versionTracker.recordRead(Employee.builder().id(1L).version(1L).build());
+
+        //then - verify the output
+        assertThat(versionTracker.employeeVersion(1L)).isEqualTo(OptionalLong.of(2L));
+        assertThat(versionTracker.employeeVersion(2L)).isEmpty();
+    }
+
+    //JUnit test for deleted employees
+    @DisplayName("JUnit test for deleted employees")
+    @Test
+    void givenDeletedEmployee_whenRecordRead_thenVersionStaysUnknown(){
+        //given - precondition or setup
+        versionTracker.recordRead(employee);
+
+        //when - action or the behaviour that are going to be tested
+        versionTracker.onEmployeeChanged(EmployeeChangedEvent.deleted(1L));
+        versionTracker.recordRead(employee);
+
+        //then - verify the output
+        assertThat(versionTracker.employeeVersion(1L)).isEmpty();
+    }
+}
@@ -0,0 +1,145 @@
+package net.java.junit.springboot.load;
+
+import net.java.junit.springboot.SpringBootTestingApplication;
+import net.java.junit.springboot.service.EmployeeService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//Starts the prod profile once per Hikari pool size and JDBC fetch size and loads it with
+//primary key reads and keyset pages, to justify the pool settings in application-prod.properties.
+//Writes the throughput/latency curve to target/pool-sweep.csv and the smallest pool per fetch size that
+//reaches 95% of the peak throughput to target/pool-sweep-report.txt.
+//./mvnw -Pload-test test -Dtest=ConnectionPoolSweepLoadTest [-Dload.sweep.poolSizes=2,4,8,16,32 -Dload.sweep.fetchSizes=10,100,1000]
+@Tag("load")
+public class ConnectionPoolSweepLoadTest {
+
+    private static final List<Integer> POOL_SIZES = sizes("load.sweep.poolSizes", "2,4,8,16,32");
+
+    private static final List<Integer> FETCH_SIZES = sizes("load.sweep.fetchSizes", "10,100,1000");
+
+    private static final int CLIENTS = Integer.getInteger("load.sweep.clients", 200);
+
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.sweep.requestsPerClient", 20);
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final double NEAR_PEAK = 0.95;
+
+    private static final Path CURVE = Path.of("target", "pool-sweep.csv");
+
+    private static final Path REPORT = Path.of("target", "pool-sweep-report.txt");
+
+    @Test
+    void givenPoolAndFetchSizes_whenSweep_thenReportSmallestPoolNearPeakThroughput() throws Exception {
+        List<SweepPoint> points = new ArrayList<>();
+        for (int poolSize : POOL_SIZES) {
+            for (int fetchSize : FETCH_SIZES) {
+                try (ConfigurableApplicationContext context = start(poolSize, fetchSize)) {
+                    int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                    List<Long> ids = context.getBean(EmployeeService.class)
+                            .saveAllEmployees(LoadTestSupport.newEmployees()).stream()
+                            .map(result -> result.employee().getId())
+                            .toList();
+                    //afterId values that still leave a full page behind them
+                    List<Long> pageStarts = ids.subList(0, Math.max(1, ids.size() - PAGE_SIZE));
+
+                    String suffix = "-pool" + poolSize + "-fetch" + fetchSize;
+                    LoadResult byId = LoadGenerator.run("sweep-by-id" + suffix, port, CLIENTS, REQUESTS_PER_CLIENT,
+                            request -> "/api/employees/" + LoadTestSupport.randomOf(ids));
+                    LoadResult page = LoadGenerator.run("sweep-page" + suffix, port, CLIENTS, REQUESTS_PER_CLIENT,
+                            request -> "/api/employees?size=" + PAGE_SIZE + "&afterId=" + LoadTestSupport.randomOf(pageStarts));
+
+                    assertThat(byId.errors()).isZero();
+                    assertThat(page.errors()).isZero();
+                    points.add(new SweepPoint("by-id", poolSize, fetchSize, byId));
+                    points.add(new SweepPoint("page", poolSize, fetchSize, page));
+                }
+            }
+        }
+
+        Files.createDirectories(CURVE.getParent());
+        Files.writeString(CURVE, points.stream()
+                .map(SweepPoint::toCsv)
+                .collect(Collectors.joining(System.lineSeparator(), SweepPoint.csvHeader() + System.lineSeparator(),
+                        System.lineSeparator())));
+        String report = report(points);
+        Files.writeString(REPORT, report);
+        System.out.println(report);
+    }
+
+    //Command line arguments win over application-prod.properties; every run gets its own in-memory database
+    private static ConfigurableApplicationContext start(int poolSize, int fetchSize) {
+        return new SpringApplicationBuilder(SpringBootTestingApplication.class)
+                .profiles("prod")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:pool-sweep-" + poolSize + "-" + fetchSize + ";QUERY_CACHE_SIZE=64",
+                        "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        "--spring.datasource.hikari.minimum-idle=" + poolSize,
+                        "--spring.jpa.properties.hibernate.jdbc.fetch_size=" + fetchSize,
+                        "--employee.cache.enabled=false");
+    }
+
+    private static String report(List<SweepPoint> points) {
+        StringBuilder report = new StringBuilder("Pool sweep: ").append(CLIENTS).append(" clients x ")
+                .append(REQUESTS_PER_CLIENT).append(" requests per point").append(System.lineSeparator());
+        Map<String, List<SweepPoint>> byWorkload = points.stream()
+                .collect(Collectors.groupingBy(SweepPoint::workload, TreeMap::new, Collectors.toList()));
+        byWorkload.forEach((workload, workloadPoints) -> {
+            SweepPoint peak = workloadPoints.stream()
+                    .max(Comparator.comparingDouble(point -> point.result().throughput()))
+                    .orElseThrow();
+            report.append(workload).append(": peak ").append(peak.describe()).append(System.lineSeparator());
+            for (int fetchSize : FETCH_SIZES) {
+                workloadPoints.stream()
+                        .filter(point -> point.fetchSize() == fetchSize)
+                        .filter(point -> point.result().throughput() >= NEAR_PEAK * peak.result().throughput())
+                        .min(Comparator.comparingInt(SweepPoint::poolSize))
+                        .ifPresentOrElse(
+                                point -> report.append("  fetch ").append(fetchSize).append(": smallest pool within 5% of peak ")
+                                        .append(point.describe()).append(System.lineSeparator()),
+                                () -> report.append("  fetch ").append(fetchSize).append(": no pool size within 5% of peak")
+                                        .append(System.lineSeparator()));
+            }
+        });
+        return report.toString();
+    }
+
+    private static List<Integer> sizes(String property, String defaultValue) {
+        return Arrays.stream(System.getProperty(property, defaultValue).split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+    }
+
+    private record SweepPoint(String workload, int poolSize, int fetchSize, LoadResult result) {
+
+        static String csvHeader() {
+            return "workload,pool_size,fetch_size,throughput_rps,p50_ms,p99_ms,max_ms";
+        }
+
+        String toCsv() {
+            return String.format("%s,%d,%d,%.1f,%.2f,%.2f,%.2f", workload, poolSize, fetchSize, result.throughput(),
+                    result.p50Nanos() / 1_000_000.0, result.p99Nanos() / 1_000_000.0, result.maxNanos() / 1_000_000.0);
+        }
+
+        String describe() {
+            return String.format("pool=%d fetch=%d %.1f req/s p99=%.2f ms", poolSize, fetchSize, result.throughput(),
+                    result.p99Nanos() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package net.java.junit.springboot.load;
+
+import net.java.junit.springboot.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//Compares throughput and p99 of the employee API on the Tomcat platform-thread pool
+//and on virtual threads; run with ./mvnw -Pload-test test (virtual threads need Java 21)
+public class EmployeeControllerLoadTest {
+
+    abstract static class MvcLoadTestSupport extends LoadTestSupport {
+
+        @Autowired
+        private EmployeeService employeeService;
+
+        @Override
+        protected List<Long> seedEmployees(){
+            return employeeService.saveAllEmployees(newEmployees()).stream()
+                    .map(result -> result.employee().getId())
+                    .toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("Tomcat platform-thread pool")
+    class PlatformThreads extends MvcLoadTestSupport {
+
+        @Test
+        void givenConcurrentClients_whenGetEmployeeById_thenAllRequestsSucceed() throws InterruptedException {
+            List<Long> ids = seedEmployees();
+
+            LoadResult result = run("platform-threads", request -> "/api/employees/" + randomOf(ids));
+
+            assertThat(result.errors()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Virtual threads")
+    @ActiveProfiles("virtual")
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    class VirtualThreads extends MvcLoadTestSupport {
+
+        @Test
+        void givenConcurrentClients_whenGetEmployeeById_thenAllRequestsSucceed() throws InterruptedException {
+            List<Long> ids = seedEmployees();
+
+            LoadResult result = run("virtual-threads", request -> "/api/employees/" + randomOf(ids));
+
+            assertThat(result.errors()).isZero();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package net.java.junit.springboot.load;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.IntFunction;
+
+//Drives an application on localhost over HTTP with a fixed number of concurrent clients
+//and appends one CSV line per run to target/load-results.csv; the peak heap is sampled
+//for the whole JVM, so it includes the client side of the test as well
+final class LoadGenerator {
+
+    private static final Path RESULTS = Path.of("target", "load-results.csv");
+
+    private LoadGenerator() {
+    }
+
+    static LoadResult run(String label, int port, int clientCount, int requestsPerClient,
+                          IntFunction<String> pathForRequest) throws InterruptedException {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(16);
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(clientExecutor)
+                .build();
+        long[] latencies = new long[clientCount * requestsPerClient];
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        for (int c = 0; c < clientCount; c++) {
+            int clientIndex = c;
+            clients.execute(() -> {
+                try {
+                    start.await();
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        int requestIndex = clientIndex * requestsPerClient + r;
+                        HttpRequest request = HttpRequest.newBuilder(
+                                        URI.create("http://localhost:" + port + pathForRequest.apply(requestIndex)))
+                                .timeout(Duration.ofSeconds(30))
+                                .build();
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[requestIndex] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        LongAccumulator peakHeap = new LongAccumulator(Math::max, 0);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakHeap.accumulate(memory.getHeapMemoryUsage().getUsed()),
+                0, 50, TimeUnit.MILLISECONDS);
+        long begin = System.nanoTime();
+        start.countDown();
+        clients.shutdown();
+        clients.awaitTermination(10, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - begin;
+        sampler.shutdownNow();
+        clientExecutor.shutdownNow();
+        LoadResult result = LoadResult.of(label, clientCount, latencies, errors.get(), elapsed, peakHeap.get());
+        record(result);
+        return result;
+    }
+
+    private static void record(LoadResult result){
+        System.out.println(LoadResult.csvHeader());
+        System.out.println(result.toCsv());
+        try {
+            Files.createDirectories(RESULTS.getParent());
+            if (Files.notExists(RESULTS)) {
+                Files.writeString(RESULTS, LoadResult.csvHeader() + System.lineSeparator());
+            }
+            Files.writeString(RESULTS, result.toCsv() + System.lineSeparator(), StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package net.java.junit.springboot.load;
+
+import java.util.Arrays;
+
+public record LoadResult(String label, int clients, long requests, long errors, long elapsedNanos,
+                         long p50Nanos, long p99Nanos, long maxNanos, long peakHeapBytes) {
+
+    public static LoadResult of(String label, int clients, long[] latencies, long errors, long elapsedNanos,
+                                long peakHeapBytes){
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return new LoadResult(label, clients, sorted.length, errors, elapsedNanos,
+                percentile(sorted, 0.50), percentile(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1], peakHeapBytes);
+    }
+
+    private static long percentile(long[] sorted, double percentile){
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    public double throughput(){
+        return requests / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    public static String csvHeader(){
+        return "label,clients,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms,peak_heap_mb";
+    }
+
+    public String toCsv(){
+        return String.format("%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%d", label, clients, requests, errors, throughput(),
+                p50Nanos / 1_000_000.0, p99Nanos / 1_000_000.0, maxNanos / 1_000_000.0, peakHeapBytes / (1024 * 1024));
+    }
+}
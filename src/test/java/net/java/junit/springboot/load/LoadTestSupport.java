@@ -0,0 +1,50 @@
+package net.java.junit.springboot.load;
+
+import net.java.junit.springboot.model.Employee;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+//Runs LoadGenerator against the application started by @SpringBootTest
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"employee.cache.enabled=false", "spring.jpa.show-sql=false"})
+public abstract class LoadTestSupport {
+
+    protected static final int CLIENTS = Integer.getInteger("load.clients", 1000);
+
+    protected static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.requestsPerClient", 20);
+
+    protected static final int EMPLOYEES = Integer.getInteger("load.employees", 1000);
+
+    @LocalServerPort
+    protected int port;
+
+    //Stores the employees through the stack under test and returns their ids
+    protected abstract List<Long> seedEmployees();
+
+    protected static List<Employee> newEmployees(){
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(Employee.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("load" + i + "-" + System.nanoTime() + "@gmail.com")
+                    .build());
+        }
+        return employees;
+    }
+
+    protected LoadResult run(String label, IntFunction<String> pathForRequest) throws InterruptedException {
+        return LoadGenerator.run(label, port, CLIENTS, REQUESTS_PER_CLIENT, pathForRequest);
+    }
+
+    protected static long randomOf(List<Long> ids){
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
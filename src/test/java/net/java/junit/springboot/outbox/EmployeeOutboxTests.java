@@ -0,0 +1,198 @@
+package net.java.junit.springboot.outbox;
+
+import net.java.junit.springboot.dto.EmployeeChangeEntry;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
+import net.java.junit.springboot.exception.ResourceNotFoundException;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.repository.EmployeeChangeRepository;
+import net.java.junit.springboot.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.CoreMatchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "employee.cache.enabled=false")
+@AutoConfigureMockMvc
+public class EmployeeOutboxTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeChangeRepository changeRepository;
+
+    @Autowired
+    private InMemoryChangeBroker broker;
+
+    private final BlockingQueue<EmployeeChangeEntry> published = new LinkedBlockingQueue<>();
+
+    private final Consumer<List<EmployeeChangeEntry>> subscriber = published::addAll;
+
+    @BeforeEach
+    void setUp(){
+        broker.subscribe(subscriber);
+    }
+
+    @AfterEach
+    void tearDown(){
+        broker.unsubscribe(subscriber);
+    }
+
+    //JUnit test for publishing employee writes through the outbox
+    @DisplayName("JUnit test for publishing employee writes through the outbox")
+    @Test
+    void givenEmployeeWrites_whenRelayed_thenBrokerReceivesChangesInOrder() throws Exception {
+        //given - precondition or setup
+        Employee employee = employeeService.saveEmployee(employee("outbox-order@gmail.com"));
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.updateEmployee(employee.getId(), employee("outbox-renamed@gmail.com"));
+        employeeService.deleteEmployee(employee.getId());
+
+        //then - verify the output
+        List<EmployeeChangeEntry> changes = awaitPublished(3);
+        assertThat(changes).extracting(EmployeeChangeEntry::type).containsExactly(
+                EmployeeChangedEvent.Type.CREATED, EmployeeChangedEvent.Type.UPDATED, EmployeeChangedEvent.Type.DELETED);
+        assertThat(changes).extracting(EmployeeChangeEntry::employeeId).containsOnly(employee.getId());
+        assertThat(changes.get(1).employee()).contains("outbox-renamed@gmail.com");
+        assertThat(changes.get(2).employee()).isNull();
+        assertThat(changes.get(1).position()).isEqualTo(changes.get(0).position() + 1);
+        assertThat(changes.get(2).position()).isEqualTo(changes.get(1).position() + 1);
+    }
+
+    //JUnit test for a batch a sink rejects once
+    @DisplayName("JUnit test for a batch a sink rejects once")
+    @Test
+    void givenSinkFailingOnce_whenRelayed_thenCommittedBatchIsOfferedAgain() throws Exception {
+        //given - precondition or setup
+        AtomicBoolean failed = new AtomicBoolean();
+        Consumer<List<EmployeeChangeEntry>> failingOnce = batch -> {
+            if (failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("broker unavailable");
+            }
+        };
+        broker.unsubscribe(subscriber);
+        broker.subscribe(failingOnce);
+        broker.subscribe(subscriber);
+
+        //when - action or the behaviour that are going to be tested
+        Employee employee = employeeService.saveEmployee(employee("outbox-retry@gmail.com"));
+
+        //then - verify the output
+        try {
+            List<EmployeeChangeEntry> changes = awaitPublished(1);
+            assertThat(failed).isTrue();
+            assertThat(changes).extracting(EmployeeChangeEntry::employeeId).containsExactly(employee.getId());
+            assertThat(changes.get(0).position()).isPositive();
+        } finally {
+            broker.unsubscribe(failingOnce);
+        }
+    }
+
+    //JUnit test for a rolled back write leaving no outbox entry
+    @DisplayName("JUnit test for a rolled back write leaving no outbox entry")
+    @Test
+    void givenDuplicateEmail_whenSaveEmployee_thenNoChangeRecorded() throws Exception {
+        //given - precondition or setup
+        employeeService.saveEmployee(employee("outbox-duplicate@gmail.com"));
+        awaitPublished(1);
+        long changes = changeRepository.count();
+
+        //when - action or the behaviour that are going to be tested
+        assertThatThrownBy(() -> employeeService.saveEmployee(employee("outbox-duplicate@gmail.com")))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        //then - verify the output
+        assertThat(changeRepository.count()).isEqualTo(changes);
+    }
+
+    //JUnit test for get changes since a position rest api
+    @DisplayName("JUnit test for get changes since a position rest api")
+    @Test
+    void givenSince_whenGetChanges_thenOnlyLaterChanges() throws Exception {
+        //given - precondition or setup
+        employeeService.saveEmployee(employee("outbox-first@gmail.com"));
+        employeeService.saveEmployee(employee("outbox-second@gmail.com"));
+        long since = awaitPublished(2).get(0).position();
+
+        //when - action or the behaviour that are going to be tested
+        MvcResult poll = mockMvc.perform(get("/api/employees/changes").param("since", Long.toString(since)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(poll));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.changes.size()", is(1)))
+                .andExpect(jsonPath("$.changes[0].type", is("CREATED")))
+                .andExpect(jsonPath("$.changes[0].employee.email", is("outbox-second@gmail.com")))
+                .andExpect(jsonPath("$.next", is((int) since + 1)));
+    }
+
+    //JUnit test for long polling get changes rest api
+    @DisplayName("JUnit test for long polling get changes rest api")
+    @Test
+    void givenNoNewChanges_whenGetChanges_thenWaitsForNextChange() throws Exception {
+        //given - precondition or setup
+        employeeService.saveEmployee(employee("outbox-before@gmail.com"));
+        long since = awaitPublished(1).get(0).position();
+        MvcResult poll = mockMvc.perform(get("/api/employees/changes").param("since", Long.toString(since)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.saveEmployee(employee("outbox-after@gmail.com"));
+        ResultActions response = mockMvc.perform(asyncDispatch(poll));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.size()", is(1)))
+                .andExpect(jsonPath("$.changes[0].employee.email", is("outbox-after@gmail.com")));
+    }
+
+    private List<EmployeeChangeEntry> awaitPublished(int count) throws InterruptedException {
+        List<EmployeeChangeEntry> changes = new ArrayList<>();
+        while (changes.size() < count) {
+            EmployeeChangeEntry change = published.poll(5, TimeUnit.SECONDS);
+            assertThat(change).as("published change").isNotNull();
+            changes.add(change);
+        }
+        return changes;
+    }
+
+    private static Employee employee(String email){
+        return Employee.builder()
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email(email)
+                .build();
+    }
+}
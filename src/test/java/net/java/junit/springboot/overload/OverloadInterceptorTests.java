@@ -0,0 +1,90 @@
+package net.java.junit.springboot.overload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+//One permit per client and hour, so the second request of a client is always over its rate
+@SpringBootTest(properties = {
+        "employee.overload.enabled=true",
+        "employee.overload.permits-per-second=0.0002777",
+        "employee.overload.burst=1"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class OverloadInterceptorTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    //JUnit test for rate limiting a client
+    @DisplayName("JUnit test for rate limiting a client")
+    @Test
+    void givenClientOverItsRate_whenGetEmployees_thenTooManyRequestsWithRetryAfter() throws Exception {
+        //given - precondition or setup
+        mockMvc.perform(get("/api/employees/{id}", 1L).with(remoteAddress("10.0.0.1")));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions limited = mockMvc.perform(get("/api/employees/{id}", 1L).with(remoteAddress("10.0.0.1")));
+        ResultActions otherClient = mockMvc.perform(get("/api/employees").with(remoteAddress("10.0.0.2")));
+
+        //then - verify the output
+        limited.andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+        otherClient.andExpect(status().isOk());
+    }
+
+    //JUnit test for a client header the caller sets itself
+    @DisplayName("JUnit test for a client header the caller sets itself")
+    @Test
+    void givenClientOverItsRate_whenSendingAnotherClientId_thenStillTooManyRequests() throws Exception {
+        //given - precondition or setup
+        mockMvc.perform(get("/api/employees/{id}", 1L).with(remoteAddress("10.0.0.3")).header("X-Client-Id", "client-a"));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", 1L).with(remoteAddress("10.0.0.3"))
+                .header("X-Client-Id", "client-b"));
+
+        //then - verify the output
+        response.andExpect(status().isTooManyRequests());
+    }
+
+    //JUnit test for the overload metrics
+    @DisplayName("JUnit test for the overload metrics")
+    @Test
+    void givenRejectedRequest_whenScrapePrometheus_thenLimiterStateExposed() throws Exception {
+        //given - precondition or setup
+        mockMvc.perform(get("/api/employees").param("email", "ram@gmail.com").with(remoteAddress("10.0.0.4")));
+        mockMvc.perform(get("/api/employees").param("email", "ram@gmail.com").with(remoteAddress("10.0.0.4")));
+
+        //when - action or the behaviour that are going to be tested
+        ResultActions response = mockMvc.perform(get("/actuator/prometheus"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(content().string(containsString("employee_overload_limit{route=\"GET /api/employees\"}")))
+                .andExpect(content().string(containsString("employee_overload_in_flight{route=\"GET /api/employees\"}")))
+                .andExpect(content().string(containsString(
+                        "employee_overload_rejected_total{reason=\"rate\",route=\"GET /api/employees\"} 1.0")))
+                .andExpect(content().string(containsString("employee_overload_clients")));
+    }
+
+    private static RequestPostProcessor remoteAddress(String address){
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
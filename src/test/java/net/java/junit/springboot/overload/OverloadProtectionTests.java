@@ -0,0 +1,107 @@
+package net.java.junit.springboot.overload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OverloadProtectionTests {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    //JUnit test for the token bucket burst and refill
+    @DisplayName("JUnit test for the token bucket burst and refill")
+    @Test
+    void givenBurstUsedUp_whenTryAcquire_thenRefusedUntilRefilled(){
+        //given - precondition or setup
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+        //when - action or the behaviour that are going to be tested
+        long first = bucket.tryAcquire(0);
+        long second = bucket.tryAcquire(0);
+        long third = bucket.tryAcquire(0);
+        long refused = bucket.tryAcquire(0);
+        long refilled = bucket.tryAcquire(100 * MILLIS);
+
+        //then - verify the output
+        assertThat(first + second + third).isZero();
+        assertThat(refused).isEqualTo(100 * MILLIS);
+        assertThat(refilled).isZero();
+    }
+
+    //JUnit test for the concurrency limit refusing requests over the limit
+    @DisplayName("JUnit test for the concurrency limit refusing requests over the limit")
+    @Test
+    void givenLimitReached_whenTryAcquire_thenRefusedUntilRelease(){
+        //given - precondition or setup
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 1.5, 100 * MILLIS, 1, clock::get);
+        limit.tryAcquire();
+        limit.tryAcquire();
+
+        //when - action or the behaviour that are going to be tested
+        boolean overLimit = limit.tryAcquire();
+        limit.release(MILLIS, false);
+        boolean afterRelease = limit.tryAcquire();
+
+        //then - verify the output
+        assertThat(overLimit).isFalse();
+        assertThat(afterRelease).isTrue();
+        assertThat(limit.inFlight()).isEqualTo(2);
+    }
+
+    //JUnit test for the concurrency limit following latency
+    @DisplayName("JUnit test for the concurrency limit following latency")
+    @Test
+    void givenLatencyRisesUnderLoad_whenWindowsClose_thenLimitGrowsThenShrinks(){
+        //given - precondition or setup
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200, 1.5, 100 * MILLIS, 10, clock::get);
+
+        //when - action or the behaviour that are going to be tested
+        for (int i = 0; i < 10; i++) {
+            fullWindow(limit, 5 * MILLIS);
+        }
+        int grown = limit.limit();
+        for (int i = 0; i < 10; i++) {
+            fullWindow(limit, 50 * MILLIS);
+        }
+        int shrunk = limit.limit();
+
+        //then - verify the output
+        assertThat(grown).isGreaterThan(20);
+        assertThat(shrunk).isLessThan(grown * 3 / 4);
+        assertThat(shrunk).isGreaterThanOrEqualTo(4);
+    }
+
+    //JUnit test for the concurrency limit backing off after failures
+    @DisplayName("JUnit test for the concurrency limit backing off after failures")
+    @Test
+    void givenFailedRequest_whenWindowCloses_thenLimitCut(){
+        //given - precondition or setup
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200, 1.5, 100 * MILLIS, 10, clock::get);
+        limit.tryAcquire();
+
+        //when - action or the behaviour that are going to be tested
+        clock.addAndGet(100 * MILLIS);
+        limit.release(MILLIS, true);
+
+        //then - verify the output
+        assertThat(limit.limit()).isEqualTo(18);
+    }
+
+    //Keeps the route at its limit for one window, every request taking rtt
+    private void fullWindow(AdaptiveConcurrencyLimit limit, long rtt){
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        clock.addAndGet(100 * MILLIS);
+        for (int i = 0; i < acquired; i++) {
+            limit.release(rtt, false);
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package net.java.junit.springboot.repository;
 
+import net.java.junit.springboot.dto.EmployeeCount;
+import net.java.junit.springboot.dto.EmployeeEmailView;
+import net.java.junit.springboot.dto.EmployeeNameView;
 import net.java.junit.springboot.model.Employee;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @DataJpaTest
 public class EmployeeRepositoryTests {
@@ -55,7 +62,7 @@ public class EmployeeRepositoryTests {
         Employee employee1 = Employee.builder()
                 .firstName("Shayam")
                 .lastName("Kumar")
-                .email("ram@gmail.com")
+                .email("shayam@gmail.com")
                 .build();
 
         employeeRepository.save(employee);
@@ -210,4 +217,188 @@ public class EmployeeRepositoryTests {
 
     }
 
+    //JUnit test for keyset pagination query
+    @DisplayName("JUnit test for keyset pagination query")
+    @Test
+    void givenEmployeeList_whenFindNextPage_thenReturnEmployeesAfterCursor(){
+        //given - precondition or setup
+
+        Employee employee1 = Employee.builder()
+                .firstName("Shayam")
+                .lastName("Kumar")
+                .email("shayam@gmail.com")
+                .build();
+        Employee employee2 = Employee.builder()
+                .firstName("Mohan")
+                .lastName("Kumar")
+                .email("mohan@gmail.com")
+                .build();
+
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+        employeeRepository.save(employee2);
+
+        //when - action or the behaviour that are going to be tested
+        List<Employee> firstPage = employeeRepository.findNextPage(0L, Limit.of(2));
+        List<Employee> secondPage = employeeRepository.findNextPage(firstPage.get(1).getId(), Limit.of(2));
+
+        //then - verify the output
+        assertThat(firstPage).extracting(Employee::getEmail).containsExactly("ram@gmail.com", "shayam@gmail.com");
+        assertThat(secondPage).extracting(Employee::getEmail).containsExactly("mohan@gmail.com");
+
+    }
+
+    //JUnit test for streaming all employees
+    @DisplayName("JUnit test for streaming all employees")
+    @Test
+    void givenEmployeeList_whenStreamAll_thenReturnEmployeesInIdOrder(){
+        //given - precondition or setup
+
+        Employee employee1 = Employee.builder()
+                .firstName("Shayam")
+                .lastName("Kumar")
+                .email("shayam@gmail.com")
+                .build();
+
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+
+        //when - action or the behaviour that are going to be tested
+        List<Employee> employeeList;
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            employeeList = employees.toList();
+        }
+
+        //then - verify the output
+        assertThat(employeeList).extracting(Employee::getEmail).containsExactly("ram@gmail.com", "shayam@gmail.com");
+
+    }
+
+    //JUnit test for get employees by emails operation
+    @DisplayName("JUnit test for get employees by emails operation")
+    @Test
+    void givenEmployeeEmails_whenFindByEmailIn_thenReturnMatchingEmployees(){
+        //given - precondition or setup
+
+        Employee employee1 = Employee.builder()
+                .firstName("Shayam")
+                .lastName("Kumar")
+                .email("shayam@gmail.com")
+                .build();
+
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+
+        //when - action or the behaviour that are going to be tested
+        List<Employee> employeeList = employeeRepository.findByEmailIn(List.of("ram@gmail.com", "unknown@gmail.com"));
+
+        //then - verify the output
+        assertThat(employeeList).extracting(Employee::getEmail).containsExactly("ram@gmail.com");
+
+    }
+
+    //JUnit test for unique email constraint
+    @DisplayName("JUnit test for unique email constraint")
+    @Test
+    void givenExistingEmail_whenSaveAndFlush_thenThrowsDataIntegrityViolation(){
+        //given - precondition or setup
+
+        Employee employee1 = Employee.builder()
+                .firstName("Shayam")
+                .lastName("Kumar")
+                .email("ram@gmail.com")
+                .build();
+
+        employeeRepository.saveAndFlush(employee);
+
+        //when - action or the behaviour that are going to be tested
+
+        //then - verify the output
+        assertThatThrownBy(() -> employeeRepository.saveAndFlush(employee1))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining(Employee.EMAIL_UNIQUE_CONSTRAINT.toUpperCase());
+
+    }
+
+    //JUnit test for name projection of all employees
+    @DisplayName("JUnit test for name projection of all employees")
+    @Test
+    void givenEmployeeList_whenFindAllProjectedToNames_thenReturnNameViews(){
+        //given - precondition or setup
+
+        Employee employee1 = Employee.builder()
+                .firstName("Shayam")
+                .lastName("Kumar")
+                .email("shayam@gmail.com")
+                .build();
+
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+
+        //when - action or the behaviour that are going to be tested
+        List<EmployeeNameView> names = employeeRepository.findAllByOrderByIdAsc(EmployeeNameView.class);
+        List<EmployeeNameView> nextNames = employeeRepository.findByIdGreaterThanOrderByIdAsc(
+                employee.getId(), Limit.of(10), EmployeeNameView.class);
+
+        //then - verify the output
+        assertThat(names).containsExactly(
+                new EmployeeNameView(employee.getId(), "Ram", "Kumar"),
+                new EmployeeNameView(employee1.getId(), "Shayam", "Kumar"));
+        assertThat(nextNames).containsExactly(new EmployeeNameView(employee1.getId(), "Shayam", "Kumar"));
+
+    }
+
+    //JUnit test for email projection by id
+    @DisplayName("JUnit test for email projection by id")
+    @Test
+    void givenEmployeeObject_whenFindProjectedById_thenReturnEmailView(){
+        //given - precondition or setup
+
+        employeeRepository.save(employee);
+
+        //when - action or the behaviour that are going to be tested
+        Optional<EmployeeEmailView> emailView = employeeRepository.findProjectedById(employee.getId(), EmployeeEmailView.class);
+
+        //then - verify the output
+        assertThat(emailView).contains(new EmployeeEmailView(employee.getId(), "ram@gmail.com"));
+
+    }
+
+    //JUnit test for counting employees by email domain
+    @DisplayName("JUnit test for counting employees by email domain")
+    @Test
+    void givenEmployeeEmails_whenCountByEmailDomain_thenReturnCountsPerDomain(){
+        //given - precondition or setup
+
+        employeeRepository.saveAll(List.of(employee,
+                Employee.builder().firstName("Sita").lastName("Devi").email("sita@Gmail.com").build(),
+                Employee.builder().firstName("Hari").lastName("Lal").email("hari@yahoo.com").build()));
+
+        //when - action or the behaviour that are going to be tested
+        List<EmployeeCount> domains = employeeRepository.countByEmailDomain(Limit.of(10));
+
+        //then - verify the output
+        assertThat(domains).containsExactly(new EmployeeCount("gmail.com", 2), new EmployeeCount("yahoo.com", 1));
+
+    }
+
+    //JUnit test for counting employees by last name
+    @DisplayName("JUnit test for counting employees by last name")
+    @Test
+    void givenEmployeeLastNames_whenCountByLastName_thenReturnLargestCountsFirst(){
+        //given - precondition or setup
+
+        employeeRepository.saveAll(List.of(employee,
+                Employee.builder().firstName("Shyam").lastName("Kumar").email("shyam@gmail.com").build(),
+                Employee.builder().firstName("Hari").lastName("Lal").email("hari@gmail.com").build(),
+                Employee.builder().firstName("Gita").lastName("Devi").email("gita@gmail.com").build()));
+
+        //when - action or the behaviour that are going to be tested
+        List<EmployeeCount> lastNames = employeeRepository.countByLastName(Limit.of(2));
+
+        //then - verify the output
+        assertThat(lastNames).containsExactly(new EmployeeCount("Kumar", 2), new EmployeeCount("Devi", 1));
+
+    }
+
 }
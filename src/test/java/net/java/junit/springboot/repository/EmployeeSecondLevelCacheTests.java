@@ -0,0 +1,164 @@
+package net.java.junit.springboot.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.java.junit.springboot.config.SecondLevelCacheConfig;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.service.EmployeeService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//Spring's employee caches are off so every read reaches Hibernate, and the outbox relay is off so its
+//queries do not show up in the statement counts
+@SpringBootTest(properties = {"employee.cache.enabled=false", "employee.outbox.enabled=false"})
+public class EmployeeSecondLevelCacheTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp(){
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    //JUnit test for find by id served from the second-level cache
+    @DisplayName("JUnit test for find by id served from the second-level cache")
+    @Test
+    void givenSavedEmployee_whenFindByIdTwice_thenNoDatabaseRoundTrip(){
+        //given - precondition or setup
+        Employee employee = employeeService.saveEmployee(newEmployee("Sita", "Ram", "sita.l2@gmail.com"));
+        statistics.clear();
+
+        //when - action or the behaviour that are going to be tested
+        Optional<Employee> first = employeeRepository.findById(employee.getId());
+        Optional<Employee> second = employeeRepository.findById(employee.getId());
+
+        //then - verify the output
+        assertThat(first).get().extracting(Employee::getEmail).isEqualTo("sita.l2@gmail.com");
+        assertThat(second).get().extracting(Employee::getEmail).isEqualTo("sita.l2@gmail.com");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getCacheRegionStatistics(SecondLevelCacheConfig.EMPLOYEE_REGION).getHitCount()).isEqualTo(2);
+    }
+
+    //JUnit test for cached custom finder queries
+    @DisplayName("JUnit test for cached custom finder queries")
+    @Test
+    void givenFinderQueriesRunOnce_whenRunAgain_thenServedFromQueryCache(){
+        //given - precondition or setup
+        employeeService.saveEmployee(newEmployee("Gita", "Query", "gita.l2@gmail.com"));
+        employeeRepository.findByJPQL("Gita", "Query");
+        employeeRepository.findByNativeSQL("Gita", "Query");
+        statistics.clear();
+
+        //when - action or the behaviour that are going to be tested
+        Employee byJpql = employeeRepository.findByJPQL("Gita", "Query");
+        Employee byNativeSql = employeeRepository.findByNativeSQL("Gita", "Query");
+
+        //then - verify the output
+        assertThat(byJpql.getEmail()).isEqualTo("gita.l2@gmail.com");
+        assertThat(byNativeSql.getEmail()).isEqualTo("gita.l2@gmail.com");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getCacheRegionStatistics(SecondLevelCacheConfig.EMPLOYEE_FINDER_REGION).getHitCount()).isEqualTo(2);
+    }
+
+    //JUnit test for cached finder queries invalidated by a write through the service
+    @DisplayName("JUnit test for cached finder queries invalidated by a write through the service")
+    @Test
+    void givenCachedFinderQueries_whenUpdateEmployee_thenQueriesSeeTheUpdate(){
+        //given - precondition or setup
+        Employee employee = employeeService.saveEmployee(newEmployee("Hari", "Before", "hari.l2@gmail.com"));
+        employeeRepository.findByJPQL("Hari", "Before");
+        employeeRepository.findByNativeSQL("Hari", "Before");
+        employeeRepository.findById(employee.getId());
+
+        //when - action or the behaviour that are going to be tested
+        Employee changes = employeeRepository.findById(employee.getId()).get();
+        changes.setLastName("After");
+        employeeService.updateEmployee(changes);
+
+        //then - verify the output
+        assertThat(employeeRepository.findByJPQL("Hari", "Before")).isNull();
+        assertThat(employeeRepository.findByNativeSQL("Hari", "Before")).isNull();
+        assertThat(employeeRepository.findByJPQL("Hari", "After").getVersion()).isEqualTo(employee.getVersion() + 1);
+        assertThat(employeeRepository.findById(employee.getId())).get()
+                .extracting(Employee::getLastName).isEqualTo("After");
+    }
+
+    //JUnit test for the employee returned by an unconditional update while it is cached
+    @DisplayName("JUnit test for the employee returned by an unconditional update while it is cached")
+    @Test
+    void givenCachedEmployee_whenUpdateEmployeeById_thenReturnsUpdatedEmployee(){
+        //given - precondition or setup
+        Employee employee = employeeService.saveEmployee(newEmployee("Mohan", "Before", "mohan.l2@gmail.com"));
+        employeeRepository.findById(employee.getId());
+
+        //when - action or the behaviour that are going to be tested
+        Optional<Employee> updatedEmployee = employeeService.updateEmployee(employee.getId(),
+                newEmployee("Mohan", "After", "mohan.l2@gmail.com"));
+
+        //then - verify the output
+        assertThat(updatedEmployee).get().extracting(Employee::getLastName).isEqualTo("After");
+        assertThat(updatedEmployee).get().extracting(Employee::getVersion).isEqualTo(employee.getVersion() + 1);
+    }
+
+    //JUnit test for an unconditional update leaving the other cached employees in place
+    @DisplayName("JUnit test for an unconditional update leaving the other cached employees in place")
+    @Test
+    void givenCachedEmployees_whenUpdateEmployeeById_thenOtherEmployeesStayCached(){
+        //given - precondition or setup
+        Employee updated = employeeService.saveEmployee(newEmployee("Kiran", "Before", "kiran.l2@gmail.com"));
+        Employee other = employeeService.saveEmployee(newEmployee("Kavya", "Other", "kavya.l2@gmail.com"));
+        employeeRepository.findById(other.getId());
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.updateEmployee(updated.getId(), newEmployee("Kiran", "After", "kiran.l2@gmail.com"));
+        statistics.clear();
+        Optional<Employee> cached = employeeRepository.findById(other.getId());
+
+        //then - verify the output
+        assertThat(cached).get().extracting(Employee::getLastName).isEqualTo("Other");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    //JUnit test for whole-table and page reads that do not fill the second-level cache
+    @DisplayName("JUnit test for whole-table and page reads that do not fill the second-level cache")
+    @Test
+    void givenEmptyCache_whenFindAllAndFindNextPage_thenNothingIsCached(){
+        //given - precondition or setup
+        employeeService.saveEmployee(newEmployee("Ravi", "Scan", "ravi.l2@gmail.com"));
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        //when - action or the behaviour that are going to be tested
+        employeeRepository.findAll();
+        employeeRepository.findNextPage(0, Limit.of(10));
+
+        //then - verify the output
+        assertThat(statistics.getCacheRegionStatistics(SecondLevelCacheConfig.EMPLOYEE_REGION).getPutCount()).isZero();
+    }
+
+    private static Employee newEmployee(String firstName, String lastName, String email){
+        return Employee.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .build();
+    }
+}
@@ -0,0 +1,178 @@
+package net.java.junit.springboot.search;
+
+import jakarta.persistence.EntityManager;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeSearchIndexTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private EmployeeSearchIndex searchIndex;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp(){
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email("ram@gmail.com")
+                .build();
+    }
+
+    //JUnit test for loading the index at startup
+    @DisplayName("JUnit test for loading the index at startup")
+    @Test
+    void givenStoredEmployees_whenLoad_thenEmployeesAreSearchable(){
+        //given - precondition or setup
+        Employee employee1 = Employee.builder().id(2L).firstName("John").lastName("Cena").email("cena@gmail.com").build();
+        given(employeeRepository.streamAll()).willReturn(Stream.of(employee, employee1));
+
+        //when - action or the behaviour that are going to be tested
+        searchIndex.load();
+
+        //then - verify the output
+        assertThat(searchIndex.size()).isEqualTo(2);
+        assertThat(searchIndex.search("cena", 10)).extracting(Employee::getId).containsExactly(2L);
+    }
+
+    //JUnit test for prefix search ranking
+    @DisplayName("JUnit test for prefix search ranking")
+    @Test
+    void givenPrefixQuery_whenSearch_thenExactNameMatchesRankFirst(){
+        //given - precondition or setup
+        searchIndex.put(Employee.builder().id(2L).firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build());
+        searchIndex.put(Employee.builder().id(3L).firstName("John").lastName("Cena").email("ram.cena@gmail.com").build());
+        searchIndex.put(employee);
+
+        //when - action or the behaviour that are going to be tested
+        List<Employee> employeeList = searchIndex.search("Ram", 10);
+
+        //then - verify the output
+        assertThat(employeeList).extracting(Employee::getId).containsExactly(1L, 2L, 3L);
+    }
+
+    //JUnit test for multi term search
+    @DisplayName("JUnit test for multi term search")
+    @Test
+    void givenTwoTerms_whenSearch_thenOnlyEmployeesMatchingBothAreReturned(){
+        //given - precondition or setup
+        searchIndex.put(employee);
+        searchIndex.put(Employee.builder().id(2L).firstName("Ram").lastName("Singh").email("singh@gmail.com").build());
+
+        //when - action or the behaviour that are going to be tested
+        List<Employee> employeeList = searchIndex.search("ram ku", 10);
+
+        //then - verify the output
+        assertThat(employeeList).extracting(Employee::getId).containsExactly(1L);
+    }
+
+    //JUnit test for search with a term longer than the indexed prefixes
+    @DisplayName("JUnit test for search with a term longer than the indexed prefixes")
+    @Test
+    void givenLongTerm_whenSearch_thenCandidatesAreVerified(){
+        //given - precondition or setup
+        searchIndex.put(Employee.builder().id(1L).firstName("Konstantinopolous").lastName("Kumar").email("k1@gmail.com").build());
+        searchIndex.put(Employee.builder().id(2L).firstName("Konstantinopolis").lastName("Kumar").email("k2@gmail.com").build());
+
+        //when - action or the behaviour that are going to be tested
+        List<Employee> employeeList = searchIndex.search("konstantinopolou", 10);
+
+        //then - verify the output
+        assertThat(employeeList).extracting(Employee::getId).containsExactly(1L);
+    }
+
+    //JUnit test for top-k limit
+    @DisplayName("JUnit test for top-k limit")
+    @Test
+    void givenManyMatches_whenSearch_thenOnlyLimitIsReturned(){
+        //given - precondition or setup
+        for (long id = 1; id <= 20; id++) {
+            searchIndex.put(Employee.builder().id(id).firstName("Ram").lastName("Kumar").email("ram" + id + "@gmail.com").build());
+        }
+
+        //when - action or the behaviour that are going to be tested
+        List<Employee> employeeList = searchIndex.search("ram", 5);
+
+        //then - verify the output
+        assertThat(employeeList).extracting(Employee::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    //JUnit test for keeping the index in sync with change events
+    @DisplayName("JUnit test for keeping the index in sync with change events")
+    @Test
+    void givenChangeEvents_whenSearch_thenIndexFollowsUpdatesAndDeletes(){
+        //given - precondition or setup
+        searchIndex.onEmployeeChanged(EmployeeChangedEvent.created(employee));
+
+        //when - action or the behaviour that are going to be tested
+        searchIndex.onEmployeeChanged(EmployeeChangedEvent.updated(
+                Employee.builder().id(1L).firstName("Mohan").lastName("Kumar").email("mohan@gmail.com").version(1L).build()));
+
+        //then - verify the output
+        assertThat(searchIndex.search("ram", 10)).isEmpty();
+        assertThat(searchIndex.search("moh", 10)).extracting(Employee::getFirstName).containsExactly("Mohan");
+
+        searchIndex.onEmployeeChanged(EmployeeChangedEvent.deleted(1L));
+        assertThat(searchIndex.search("moh", 10)).isEmpty();
+        assertThat(searchIndex.size()).isZero();
+    }
+
+    //JUnit test for ignoring a stale row
+    @DisplayName("JUnit test for ignoring a stale row")
+    @Test
+    void givenNewerVersionIndexed_whenPutOlderVersion_thenNewerVersionIsKept(){
+        //given - precondition or setup
+        searchIndex.put(Employee.builder().id(1L).firstName("Mohan").lastName("Kumar").email("mohan@gmail.com").version(2L).build());
+
+        //when - action or the behaviour that are going to be tested
+        searchIndex.put(employee);
+
+        //then - verify the output
+        assertThat(searchIndex.search("ram", 10)).isEmpty();
+        assertThat(searchIndex.search("mohan", 10)).hasSize(1);
+    }
+
+    //JUnit test for a delete indexed while the index loads
+    @DisplayName("JUnit test for a delete indexed while the index loads")
+    @Test
+    void givenDeleteWhileLoading_whenLoadStreamsDeletedEmployee_thenEmployeeIsNotIndexed(){
+        //given - precondition or setup
+        Employee employee1 = Employee.builder().id(2L).firstName("John").lastName("Cena").email("cena@gmail.com").build();
+        given(employeeRepository.streamAll()).willReturn(Stream.of(employee1, employee)
+                .peek(streamed -> {
+                    if (streamed == employee) {
+                        searchIndex.onEmployeeChanged(EmployeeChangedEvent.deleted(1L));
+                    }
+                }));
+
+        //when - action or the behaviour that are going to be tested
+        searchIndex.load();
+
+        //then - verify the output
+        assertThat(searchIndex.size()).isEqualTo(1);
+        assertThat(searchIndex.search("ram", 10)).isEmpty();
+    }
+}
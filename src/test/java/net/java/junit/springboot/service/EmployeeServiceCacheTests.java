@@ -0,0 +1,201 @@
+package net.java.junit.springboot.service;
+
+import net.java.junit.springboot.config.CacheConfig;
+import net.java.junit.springboot.dto.EmployeeLookupResult;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+public class EmployeeServiceCacheTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private EmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp(){
+        cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID).clear();
+        cacheManager.getCache(CacheConfig.EMPLOYEES_BY_EMAIL).clear();
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email("ram@gmail.com")
+                .build();
+    }
+
+    //JUnit test for cached get employee by id
+    @DisplayName("JUnit test for cached get employee by id")
+    @Test
+    void givenCachedEmployee_whenGetEmployeeByIdTwice_thenRepositoryCalledOnce(){
+        //given - precondition or setup
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.getEmployeeById(1L);
+        Optional<Employee> cachedEmployee = employeeService.getEmployeeById(1L);
+
+        //then - verify the output
+        assertThat(cachedEmployee).hasValueSatisfying(cached -> assertThat(cached).usingRecursiveComparison().isEqualTo(employee));
+        verify(employeeRepository, times(1)).findById(1L);
+
+    }
+
+    //JUnit test for cached get employee by email
+    @DisplayName("JUnit test for cached get employee by email")
+    @Test
+    void givenCachedEmployee_whenGetEmployeeByEmailTwice_thenRepositoryCalledOnce(){
+        //given - precondition or setup
+        given(employeeRepository.findByEmail("ram@gmail.com")).willReturn(Optional.of(employee));
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.getEmployeeByEmail("ram@gmail.com");
+        employeeService.getEmployeeByEmail("ram@gmail.com");
+
+        //then - verify the output
+        verify(employeeRepository, times(1)).findByEmail("ram@gmail.com");
+
+    }
+
+    //JUnit test for missing employees not being cached
+    @DisplayName("JUnit test for missing employees not being cached")
+    @Test
+    void givenMissingEmployee_whenGetEmployeeByIdTwice_thenRepositoryCalledTwice(){
+        //given - precondition or setup
+        given(employeeRepository.findById(2L)).willReturn(Optional.empty());
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.getEmployeeById(2L);
+        employeeService.getEmployeeById(2L);
+
+        //then - verify the output
+        verify(employeeRepository, times(2)).findById(2L);
+
+    }
+
+    //JUnit test for cache eviction on update
+    @DisplayName("JUnit test for cache eviction on update")
+    @Test
+    void givenCachedEmployee_whenUpdateEmployee_thenNextReadGoesToRepository(){
+        //given - precondition or setup
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        given(employeeRepository.findByEmail("ram@gmail.com")).willReturn(Optional.of(employee));
+        given(employeeRepository.saveAndFlush(employee)).willReturn(employee);
+        employeeService.getEmployeeById(1L);
+        employeeService.getEmployeeByEmail("ram@gmail.com");
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.updateEmployee(employee);
+        employeeService.getEmployeeById(1L);
+        employeeService.getEmployeeByEmail("ram@gmail.com");
+
+        //then - verify the output
+        verify(employeeRepository, times(2)).findById(1L);
+        verify(employeeRepository, times(2)).findByEmail("ram@gmail.com");
+
+    }
+
+    //JUnit test for cache eviction on delete
+    @DisplayName("JUnit test for cache eviction on delete")
+    @Test
+    void givenCachedEmployee_whenDeleteEmployee_thenNextReadGoesToRepository(){
+        //given - precondition or setup
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        employeeService.getEmployeeById(1L);
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.deleteEmployee(1L);
+        employeeService.getEmployeeById(1L);
+
+        //then - verify the output
+        verify(employeeRepository, times(2)).findById(1L);
+
+    }
+
+    //JUnit test for lookups served from the employee caches
+    @DisplayName("JUnit test for lookups served from the employee caches")
+    @Test
+    void givenCachedEmployee_whenLookupEmployees_thenOnlyMissesGoToRepository(){
+        //given - precondition or setup
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        given(employeeRepository.findAllById(List.of(2L))).willReturn(List.of());
+        employeeService.getEmployeeById(1L);
+
+        //when - action or the behaviour that are going to be tested
+        EmployeeLookupResult result = employeeService.lookupEmployees(List.of(1L, 2L), List.of());
+
+        //then - verify the output
+        assertThat(result.employees()).usingRecursiveFieldByFieldElementComparator().containsExactly(employee);
+        assertThat(result.missingIds()).containsExactly(2L);
+        verify(employeeRepository, times(1)).findAllById(List.of(2L));
+
+    }
+
+    //JUnit test for cached employees being copies
+    @DisplayName("JUnit test for cached employees being copies")
+    @Test
+    void givenCachedEmployee_whenCallerChangesReturnedEmployee_thenCachedEmployeeUnchanged(){
+        //given - precondition or setup
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        employeeService.getEmployeeById(1L);
+
+        //when - action or the behaviour that are going to be tested
+        employee.setEmail("changed@gmail.com");
+        employeeService.getEmployeeById(1L).orElseThrow().setFirstName("Changed");
+        Optional<Employee> cachedEmployee = employeeService.getEmployeeById(1L);
+
+        //then - verify the output
+        assertThat(cachedEmployee).hasValueSatisfying(cached -> {
+            assertThat(cached.getFirstName()).isEqualTo("Ram");
+            assertThat(cached.getEmail()).isEqualTo("ram@gmail.com");
+        });
+        verify(employeeRepository, times(1)).findById(1L);
+
+    }
+
+    //JUnit test for cache eviction waiting for the commit
+    @DisplayName("JUnit test for cache eviction waiting for the commit")
+    @Test
+    void givenCachedEmployee_whenDeleteEmployeeInTransaction_thenEvictedAfterCommit(){
+        //given - precondition or setup
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        employeeService.getEmployeeById(1L);
+
+        //when - action or the behaviour that are going to be tested
+        Object cachedBeforeCommit = transactionTemplate.execute(status -> {
+            employeeService.deleteEmployee(1L);
+            return cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID).get(1L);
+        });
+
+        //then - verify the output
+        assertThat(cachedBeforeCommit).isNotNull();
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID).get(1L)).isNull();
+
+    }
+}
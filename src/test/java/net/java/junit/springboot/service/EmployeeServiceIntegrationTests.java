@@ -0,0 +1,96 @@
+package net.java.junit.springboot.service;
+
+import net.java.junit.springboot.dto.EmployeeBatchItemResult;
+import net.java.junit.springboot.exception.ResourceNotFoundException;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class EmployeeServiceIntegrationTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    //JUnit test for saveAllEmployees method with the id of an existing employee
+    @DisplayName("JUnit test for saveAllEmployees method with the id of an existing employee")
+    @Test
+    void givenIdOfExistingEmployee_whenSaveAllEmployees_thenExistingEmployeeIsKept(){
+        //given - precondition or setup
+        Employee existing = employeeService.saveEmployee(employee("batch-existing@gmail.com"));
+        Employee employee = employee("batch-new@gmail.com");
+        employee.setId(existing.getId());
+        employee.setVersion(existing.getVersion());
+
+        //when - action or the behaviour that are going to be tested
+        List<EmployeeBatchItemResult> results = employeeService.saveAllEmployees(List.of(employee));
+
+        //then - verify the output
+        assertThat(results).extracting(EmployeeBatchItemResult::status)
+                .containsExactly(EmployeeBatchItemResult.Status.CREATED);
+        assertThat(employee.getId()).isNotEqualTo(existing.getId());
+        assertThat(employeeRepository.findById(existing.getId()))
+                .hasValueSatisfying(kept -> assertThat(kept.getEmail()).isEqualTo("batch-existing@gmail.com"));
+        assertThat(employeeRepository.findByEmail("batch-new@gmail.com")).isPresent();
+
+    }
+
+    //JUnit test for updateEmployee method with the email of another employee
+    @DisplayName("JUnit test for updateEmployee method with the email of another employee")
+    @Test
+    void givenEmailOfAnotherEmployee_whenUpdateEmployee_thenThrowsException(){
+        //given - precondition or setup
+        employeeService.saveEmployee(employee("update-taken@gmail.com"));
+        Employee employee = employeeService.saveEmployee(employee("update-own@gmail.com"));
+        employee.setEmail("update-taken@gmail.com");
+
+        //when - action or the behaviour that are going to be tested
+        assertThatThrownBy(() -> employeeService.updateEmployee(employee))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        //then - verify the output
+        assertThat(employeeRepository.findByEmail("update-own@gmail.com")).isPresent();
+
+    }
+
+    //JUnit test for updateEmployee method with a stale version
+    @DisplayName("JUnit test for updateEmployee method with a stale version")
+    @Test
+    void givenStaleVersion_whenUpdateEmployee_thenThrowsOptimisticLockingFailure(){
+        //given - precondition or setup
+        Employee employee = employeeService.saveEmployee(employee("update-stale@gmail.com"));
+        Employee stale = employee("update-stale@gmail.com");
+        stale.setId(employee.getId());
+        stale.setVersion(employee.getVersion());
+        employeeService.updateEmployee(employee.getId(), employee("update-current@gmail.com"));
+
+        //when - action or the behaviour that are going to be tested
+        assertThatThrownBy(() -> employeeService.updateEmployee(stale))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        //then - verify the output
+        assertThat(employeeRepository.findById(employee.getId()))
+                .hasValueSatisfying(current -> assertThat(current.getEmail()).isEqualTo("update-current@gmail.com"));
+
+    }
+
+    private static Employee employee(String email){
+        return Employee.builder()
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email(email)
+                .build();
+    }
+}
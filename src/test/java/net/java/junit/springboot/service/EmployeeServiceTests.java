@@ -1,9 +1,17 @@
 package net.java.junit.springboot.service;
 
+import jakarta.persistence.EntityManager;
+import net.java.junit.springboot.directory.EmployeeDirectory;
+import net.java.junit.springboot.dto.EmployeeBatchItemResult;
+import net.java.junit.springboot.dto.EmployeeLookupResult;
+import net.java.junit.springboot.dto.EmployeeNameView;
+import net.java.junit.springboot.event.EmployeeChangedEvent;
 import net.java.junit.springboot.exception.ResourceNotFoundException;
 import net.java.junit.springboot.model.Employee;
 import net.java.junit.springboot.repository.EmployeeRepository;
+import net.java.junit.springboot.search.EmployeeSearchIndex;
 import net.java.junit.springboot.service.impl.EmployeeServiceImpl;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,10 +19,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,6 +50,18 @@ public class EmployeeServiceTests {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmployeeSearchIndex searchIndex;
+
+    @Mock
+    private ObjectProvider<EmployeeDirectory> directory;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -51,15 +85,14 @@ public class EmployeeServiceTests {
     void givenEmployeeObject_whenSaveEmployee_thenReturnEmployeeObject(){
         //given - precondition or setup
 
-        given(employeeRepository.findByEmail(employee.getEmail())).willReturn(Optional.empty());
-
-        given(employeeRepository.save(employee)).willReturn(employee);
+        given(employeeRepository.saveAndFlush(employee)).willReturn(employee);
 
         //when - action or the behaviour that are going to be tested
         Employee savedEmployee = employeeService.saveEmployee(employee);
 
         //then - verify the output
         assertThat(savedEmployee).isNotNull();
+        verify(employeeRepository, never()).findByEmail(any());
 
     }
 
@@ -69,7 +102,8 @@ public class EmployeeServiceTests {
     void givenExistingEmail_whenSaveEmployee_thenThrowsException(){
         //given - precondition or setup
 
-        given(employeeRepository.findByEmail(employee.getEmail())).willReturn(Optional.of(employee));
+        given(employeeRepository.saveAndFlush(employee)).willThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), "PUBLIC.UK_EMPLOYEES_EMAIL_INDEX_2")));
 
         //when - action or the behaviour that are going to be tested
         org.junit.jupiter.api.Assertions.assertThrows(ResourceNotFoundException.class, ()->{
@@ -77,7 +111,7 @@ public class EmployeeServiceTests {
         });
 
         //then
-        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(employeeRepository, never()).findByEmail(any());
 
     }
 
@@ -147,7 +181,7 @@ public class EmployeeServiceTests {
     @Test
     void givenEmployeeObject_whenUpdateEmployee_thenReturnEmployeeObject(){
         //given - precondition or setup
-        given(employeeRepository.save(employee)).willReturn(employee);
+        given(employeeRepository.saveAndFlush(employee)).willReturn(employee);
         employee.setEmail("ramesh@gmail.com");
         employee.setFirstName("Ramesh");
         //when - action or the behaviour that are going to be tested
@@ -175,4 +209,431 @@ public class EmployeeServiceTests {
 
     }
 
+    //JUnit test for get employees page method
+    @DisplayName("JUnit test for get employees page method")
+    @Test
+    void givenCursor_whenGetEmployeesAfter_thenReturnNextPage(){
+        //given - precondition or setup
+        given(employeeRepository.findNextPage(0L, Limit.of(10))).willReturn(List.of(employee));
+
+        //when - action or the behaviour that are going to be tested
+        List<Employee> employeeList = employeeService.getEmployeesAfter(0L, 10);
+
+        //then - verify the output
+        assertThat(employeeList).containsExactly(employee);
+
+    }
+
+    //JUnit test for stream all employees method
+    @DisplayName("JUnit test for stream all employees method")
+    @Test
+    void givenEmployeeStream_whenStreamAllEmployees_thenConsumeAndDetachEachEmployee(){
+        //given - precondition or setup
+        given(employeeRepository.streamAll()).willReturn(Stream.of(employee));
+        List<Employee> consumed = new ArrayList<>();
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.streamAllEmployees(consumed::add);
+
+        //then - verify the output
+        assertThat(consumed).containsExactly(employee);
+        verify(entityManager, times(1)).detach(employee);
+
+    }
+
+    //JUnit test for saveAllEmployees method
+    @DisplayName("JUnit test for saveAllEmployees method")
+    @Test
+    void givenEmployeeList_whenSaveAllEmployees_thenReturnPerItemResults(){
+        //given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Kumar")
+                .email("ramesh@gmail.com")
+                .build();
+        Employee employee2 = Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Sharma")
+                .email("ramesh@gmail.com")
+                .build();
+        Employee employee3 = Employee.builder()
+                .firstName("Mohan")
+                .email("mohan@gmail.com")
+                .build();
+
+        given(employeeRepository.findByEmailIn(any())).willReturn(List.of(employee));
+
+        //when - action or the behaviour that are going to be tested
+        List<EmployeeBatchItemResult> results = employeeService.saveAllEmployees(
+                List.of(employee, employee1, employee2, employee3));
+
+        //then - verify the output
+        assertThat(results).extracting(EmployeeBatchItemResult::status).containsExactly(
+                EmployeeBatchItemResult.Status.DUPLICATE,
+                EmployeeBatchItemResult.Status.CREATED,
+                EmployeeBatchItemResult.Status.DUPLICATE,
+                EmployeeBatchItemResult.Status.INVALID);
+        verify(employeeRepository, times(1)).findByEmailIn(any());
+        verify(employeeRepository, times(1)).saveAll(List.of(employee1));
+        verify(employeeRepository, times(1)).flush();
+
+    }
+
+    //JUnit test for saveAllEmployees method with client-supplied ids
+    @DisplayName("JUnit test for saveAllEmployees method with client-supplied ids")
+    @Test
+    void givenEmployeeWithIdAndVersion_whenSaveAllEmployees_thenInsertedAsNewEmployee(){
+        //given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .id(7L)
+                .version(3L)
+                .firstName("Ramesh")
+                .lastName("Kumar")
+                .email("ramesh@gmail.com")
+                .build();
+
+        given(employeeRepository.findByEmailIn(any())).willReturn(List.of());
+
+        //when - action or the behaviour that are going to be tested
+        List<EmployeeBatchItemResult> results = employeeService.saveAllEmployees(List.of(employee1));
+
+        //then - verify the output
+        assertThat(results).extracting(EmployeeBatchItemResult::status)
+                .containsExactly(EmployeeBatchItemResult.Status.CREATED);
+        assertThat(employee1.getId()).isZero();
+        assertThat(employee1.getVersion()).isZero();
+        verify(employeeRepository, times(1)).saveAll(List.of(employee1));
+
+    }
+
+    //JUnit test for get employee by email method
+    @DisplayName("JUnit test for get employee by email method")
+    @Test
+    void givenEmployeeEmail_whenGetEmployeeByEmail_thenReturnEmployeeObject(){
+        //given - precondition or setup
+        given(employeeRepository.findByEmail("ram@gmail.com")).willReturn(Optional.of(employee));
+
+        //when - action or the behaviour that are going to be tested
+        Optional<Employee> savedEmployee = employeeService.getEmployeeByEmail("ram@gmail.com");
+
+        //then - verify the output
+        assertThat(savedEmployee).contains(employee);
+
+    }
+
+    //JUnit test for saveEmployee method with an unrelated constraint violation
+    @DisplayName("JUnit test for saveEmployee method with an unrelated constraint violation")
+    @Test
+    void givenOtherConstraintViolation_whenSaveEmployee_thenRethrowsException(){
+        //given - precondition or setup
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", new SQLException(), null));
+        given(employeeRepository.saveAndFlush(employee)).willThrow(violation);
+
+        //when - action or the behaviour that are going to be tested
+        DataIntegrityViolationException thrown = org.junit.jupiter.api.Assertions.assertThrows(
+                DataIntegrityViolationException.class, ()->{
+            employeeService.saveEmployee(employee);
+        });
+
+        //then
+        assertThat(thrown).isSameAs(violation);
+
+    }
+
+    //JUnit test for get employee views method
+    @DisplayName("JUnit test for get employee views method")
+    @Test
+    void givenNameProjection_whenGetAllEmployeeViews_thenReturnNameViews(){
+        //given - precondition or setup
+        EmployeeNameView nameView = new EmployeeNameView(1L, "Ram", "Kumar");
+        given(employeeRepository.findAllByOrderByIdAsc(EmployeeNameView.class)).willReturn(List.of(nameView));
+
+        //when - action or the behaviour that are going to be tested
+        List<EmployeeNameView> views = employeeService.getAllEmployeeViews(EmployeeNameView.class);
+
+        //then - verify the output
+        assertThat(views).containsExactly(nameView);
+
+    }
+
+    //JUnit test for get employee view by id method
+    @DisplayName("JUnit test for get employee view by id method")
+    @Test
+    void givenNameProjection_whenGetEmployeeViewById_thenReturnNameView(){
+        //given - precondition or setup
+        EmployeeNameView nameView = new EmployeeNameView(1L, "Ram", "Kumar");
+        given(employeeRepository.findProjectedById(1L, EmployeeNameView.class)).willReturn(Optional.of(nameView));
+
+        //when - action or the behaviour that are going to be tested
+        Optional<EmployeeNameView> view = employeeService.getEmployeeViewById(1L, EmployeeNameView.class);
+
+        //then - verify the output
+        assertThat(view).contains(nameView);
+
+    }
+
+    //JUnit test for conditional update employee method
+    @DisplayName("JUnit test for conditional update employee method")
+    @Test
+    void givenMatchingVersion_whenUpdateEmployee_thenChangesAreFlushedToLoadedEmployee(){
+        //given - precondition or setup
+        Employee current = Employee.builder().id(1L).firstName("Ram").lastName("Kumar").email("ram@gmail.com").version(2L).build();
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(current));
+        employee.setFirstName("Ramesh");
+
+        //when - action or the behaviour that are going to be tested
+        Employee updatedEmployee = employeeService.updateEmployee(1L, employee, 2L).get();
+
+        //then - verify the output
+        assertThat(updatedEmployee).isSameAs(current);
+        assertThat(updatedEmployee.getFirstName()).isEqualTo("Ramesh");
+        verify(employeeRepository).flush();
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.updated(current));
+
+    }
+
+    //JUnit test for conditional update employee method with a stale version
+    @DisplayName("JUnit test for conditional update employee method with a stale version")
+    @Test
+    void givenStaleVersion_whenUpdateEmployee_thenThrowsOptimisticLockingFailure(){
+        //given - precondition or setup
+        Employee current = Employee.builder().id(1L).firstName("Ram").lastName("Kumar").email("ram@gmail.com").version(2L).build();
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(current));
+
+        //when - action or the behaviour that are going to be tested
+        org.junit.jupiter.api.Assertions.assertThrows(OptimisticLockingFailureException.class, ()->{
+            employeeService.updateEmployee(1L, employee, 1L);
+        });
+
+        //then - verify the output
+        verify(employeeRepository, never()).flush();
+
+    }
+
+    //JUnit test for conditional update employee method with a missing employee
+    @DisplayName("JUnit test for conditional update employee method with a missing employee")
+    @Test
+    void givenMissingEmployee_whenUpdateEmployee_thenReturnEmpty(){
+        //given - precondition or setup
+        given(employeeRepository.findById(1L)).willReturn(Optional.empty());
+
+        //when - action or the behaviour that are going to be tested
+        Optional<Employee> updatedEmployee = employeeService.updateEmployee(1L, employee, 1L);
+
+        //then - verify the output
+        assertThat(updatedEmployee).isEmpty();
+
+    }
+
+    //JUnit test for saveEmployee method publishing a change event
+    @DisplayName("JUnit test for saveEmployee method publishing a change event")
+    @Test
+    void givenEmployeeObject_whenSaveEmployee_thenPublishCreatedEvent(){
+        //given - precondition or setup
+        given(employeeRepository.saveAndFlush(employee)).willReturn(employee);
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.saveEmployee(employee);
+
+        //then - verify the output
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.created(employee));
+
+    }
+
+    //JUnit test for deleteEmployee method publishing a change event
+    @DisplayName("JUnit test for deleteEmployee method publishing a change event")
+    @Test
+    void givenEmployeeId_whenDeleteEmployee_thenPublishDeletedEvent(){
+        //given - precondition or setup
+        long employeeId = 1L;
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.deleteEmployee(employeeId);
+
+        //then - verify the output
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.deleted(employeeId));
+
+    }
+
+    //JUnit test for searchEmployees method
+    @DisplayName("JUnit test for searchEmployees method")
+    @Test
+    void givenQuery_whenSearchEmployees_thenServedFromIndex(){
+        //given - precondition or setup
+        given(searchIndex.search("ram", 10)).willReturn(List.of(employee));
+
+        //when - action or the behaviour that are going to be tested
+        List<Employee> employeeList = employeeService.searchEmployees("ram", 10);
+
+        //then - verify the output
+        assertThat(employeeList).containsExactly(employee);
+        verifyNoInteractions(employeeRepository);
+
+    }
+
+    //JUnit test for updateAllEmployees method
+    @DisplayName("JUnit test for updateAllEmployees method")
+    @Test
+    void givenChangesById_whenUpdateAllEmployees_thenOneFlushForExistingEmployees(){
+        //given - precondition or setup
+        Employee changes = Employee.builder().firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build();
+        given(employeeRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(employee));
+
+        //when - action or the behaviour that are going to be tested
+        Map<Long, Employee> changesById = new LinkedHashMap<>();
+        changesById.put(1L, changes);
+        changesById.put(2L, changes);
+        Map<Long, Employee> updatedEmployees = employeeService.updateAllEmployees(changesById);
+
+        //then - verify the output
+        assertThat(updatedEmployees).containsOnlyKeys(1L);
+        assertThat(updatedEmployees.get(1L).getEmail()).isEqualTo("ramesh@gmail.com");
+        verify(entityManager, times(1)).flush();
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.updated(employee));
+
+    }
+
+    //JUnit test for lookupEmployees method
+    @DisplayName("JUnit test for lookupEmployees method")
+    @Test
+    void givenIdsAndEmails_whenLookupEmployees_thenInputOrderAndMissingKeys(){
+        //given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .id(2L)
+                .firstName("Ravi")
+                .lastName("Singh")
+                .email("ravi@gmail.com")
+                .build();
+        given(employeeRepository.findAllById(List.of(2L, 1L, 3L))).willReturn(List.of(employee, employee1));
+        given(employeeRepository.findByEmailIn(List.of("ram@gmail.com", "unknown@gmail.com"))).willReturn(List.of(employee));
+
+        //when - action or the behaviour that are going to be tested
+        EmployeeLookupResult result = employeeService.lookupEmployees(
+                List.of(2L, 1L, 3L, 2L), List.of("ram@gmail.com", "unknown@gmail.com"));
+
+        //then - verify the output
+        assertThat(result.employees()).containsExactly(employee1, employee);
+        assertThat(result.missingIds()).containsExactly(3L);
+        assertThat(result.missingEmails()).containsExactly("unknown@gmail.com");
+        verify(employeeRepository, times(1)).findAllById(any());
+        verify(employeeRepository, times(1)).findByEmailIn(any());
+
+    }
+
+    //JUnit test for lookupEmployees method coalescing concurrent lookups
+    @DisplayName("JUnit test for lookupEmployees method coalescing concurrent lookups")
+    @Test
+    void givenLookupInFlight_whenSameIdLookedUpConcurrently_thenOneQuery() throws Exception {
+        //given - precondition or setup
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(employeeRepository.findAllById(List.of(1L))).willAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return List.of(employee);
+        });
+        FutureTask<EmployeeLookupResult> first = new FutureTask<>(() -> employeeService.lookupEmployees(List.of(1L), List.of()));
+        FutureTask<EmployeeLookupResult> second = new FutureTask<>(() -> employeeService.lookupEmployees(List.of(1L), List.of()));
+        new Thread(first).start();
+        loading.await();
+
+        //when - action or the behaviour that are going to be tested
+        Thread waiting = new Thread(second);
+        waiting.start();
+        while (waiting.getState() != Thread.State.WAITING && waiting.isAlive()) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        //then - verify the output
+        assertThat(first.get(5, TimeUnit.SECONDS).employees()).containsExactly(employee);
+        assertThat(second.get(5, TimeUnit.SECONDS).employees()).containsExactly(employee);
+        verify(employeeRepository, times(1)).findAllById(any());
+
+    }
+
+    //JUnit test for lookupEmployees method not joining a lookup started before a write
+    @DisplayName("JUnit test for lookupEmployees method not joining a lookup started before a write")
+    @Test
+    void givenLookupInFlightBeforeWrite_whenSameIdLookedUpAfterWrite_thenQueriedAgain() throws Exception {
+        //given - precondition or setup
+        CountDownLatch loading = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        given(employeeRepository.findAllById(List.of(1L))).willAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return List.of(employee);
+        });
+        FutureTask<EmployeeLookupResult> first = new FutureTask<>(() -> employeeService.lookupEmployees(List.of(1L), List.of()));
+        FutureTask<EmployeeLookupResult> second = new FutureTask<>(() -> employeeService.lookupEmployees(List.of(1L), List.of()));
+        new Thread(first).start();
+        while (loading.getCount() == 2) {
+            Thread.onSpinWait();
+        }
+
+        //when - action or the behaviour that are going to be tested
+        employeeService.onEmployeeChanged(EmployeeChangedEvent.updated(employee));
+        new Thread(second).start();
+        boolean bothLoading = loading.await(5, TimeUnit.SECONDS);
+        release.countDown();
+
+        //then - verify the output
+        assertThat(bothLoading).isTrue();
+        assertThat(first.get(5, TimeUnit.SECONDS).employees()).containsExactly(employee);
+        assertThat(second.get(5, TimeUnit.SECONDS).employees()).containsExactly(employee);
+        verify(employeeRepository, times(2)).findAllById(any());
+
+    }
+
+    //JUnit test for lookupEmployees method keeping the newer lookup when an older one finishes
+    @DisplayName("JUnit test for lookupEmployees method keeping the newer lookup when an older one finishes")
+    @Test
+    void givenOlderLookupFinishesFirst_whenSameIdLookedUpAgain_thenJoinsNewerLookup() throws Exception {
+        //given - precondition or setup
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch olderLoading = new CountDownLatch(1);
+        CountDownLatch newerLoading = new CountDownLatch(1);
+        CountDownLatch releaseOlder = new CountDownLatch(1);
+        CountDownLatch releaseNewer = new CountDownLatch(1);
+        given(employeeRepository.findAllById(List.of(1L))).willAnswer(invocation -> {
+            switch (calls.incrementAndGet()) {
+                case 1 -> {
+                    olderLoading.countDown();
+                    releaseOlder.await();
+                }
+                case 2 -> {
+                    newerLoading.countDown();
+                    releaseNewer.await();
+                }
+                default -> {
+                }
+            }
+            return List.of(employee);
+        });
+        FutureTask<EmployeeLookupResult> older = new FutureTask<>(() -> employeeService.lookupEmployees(List.of(1L), List.of()));
+        FutureTask<EmployeeLookupResult> newer = new FutureTask<>(() -> employeeService.lookupEmployees(List.of(1L), List.of()));
+        FutureTask<EmployeeLookupResult> joining = new FutureTask<>(() -> employeeService.lookupEmployees(List.of(1L), List.of()));
+        new Thread(older).start();
+        olderLoading.await();
+        employeeService.onEmployeeChanged(EmployeeChangedEvent.updated(employee));
+        new Thread(newer).start();
+        newerLoading.await();
+        releaseOlder.countDown();
+        older.get(5, TimeUnit.SECONDS);
+
+        //when - action or the behaviour that are going to be tested
+        Thread waiting = new Thread(joining);
+        waiting.start();
+        while (waiting.getState() != Thread.State.WAITING && waiting.isAlive()) {
+            Thread.onSpinWait();
+        }
+        releaseNewer.countDown();
+
+        //then - verify the output
+        assertThat(newer.get(5, TimeUnit.SECONDS).employees()).containsExactly(employee);
+        assertThat(joining.get(5, TimeUnit.SECONDS).employees()).containsExactly(employee);
+        verify(employeeRepository, times(2)).findAllById(any());
+
+    }
 }
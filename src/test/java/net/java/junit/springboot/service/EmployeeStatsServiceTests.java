@@ -0,0 +1,92 @@
+package net.java.junit.springboot.service;
+
+import net.java.junit.springboot.dto.EmployeeCount;
+import net.java.junit.springboot.dto.EmployeeNameView;
+import net.java.junit.springboot.dto.EmployeeStats;
+import net.java.junit.springboot.repository.EmployeeRepository;
+import net.java.junit.springboot.service.impl.EmployeeStatsServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeStatsServiceTests {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeStatsServiceImpl statsService;
+
+    @BeforeEach
+    void setUp(){
+        statsService = new EmployeeStatsServiceImpl(employeeRepository, 4);
+    }
+
+    @AfterEach
+    void tearDown(){
+        statsService.shutdown();
+    }
+
+    //JUnit test for finding duplicate names across id ranges
+    @DisplayName("JUnit test for finding duplicate names across id ranges")
+    @Test
+    void givenSimilarNamesFarApart_whenFindDuplicateNames_thenCountedTogether(){
+        //given - precondition or setup
+        List<EmployeeNameView> names = new ArrayList<>();
+        for (long id = 1; id <= 50_000; id++) {
+            names.add(new EmployeeNameView(id, "First" + id, "Last" + id));
+        }
+        names.set(0, new EmployeeNameView(1, "Ram", "Kumar"));
+        names.set(25_000, new EmployeeNameView(25_001, "RAM", "  Kumar"));
+        names.set(49_999, new EmployeeNameView(50_000, "Rám", "Kumar"));
+        names.set(10, new EmployeeNameView(11, "Sita", "Devi"));
+        names.set(40_000, new EmployeeNameView(40_001, "sita", "devi"));
+        given(employeeRepository.findMinId()).willReturn(Optional.of(1L));
+        given(employeeRepository.findMaxId()).willReturn(Optional.of(50_000L));
+        given(employeeRepository.findNamesInIdRange(anyLong(), anyLong())).willAnswer(invocation -> {
+            long from = invocation.getArgument(0);
+            long to = invocation.getArgument(1);
+            return names.subList((int) from - 1, (int) Math.min(to, 50_001) - 1);
+        });
+
+        //when - action or the behaviour that are going to be tested
+        EmployeeStats stats = statsService.findDuplicateNames(10);
+
+        //then - verify the output
+        assertThat(stats.counts()).containsExactly(new EmployeeCount("ram kumar", 3), new EmployeeCount("sita devi", 2));
+        assertThat(stats.computedBy()).isEqualTo("fork-join");
+        assertThat(stats.parallelism()).isEqualTo(4);
+        verify(employeeRepository, atLeast(4)).findNamesInIdRange(anyLong(), anyLong());
+    }
+
+    //JUnit test for duplicate names of an empty table
+    @DisplayName("JUnit test for duplicate names of an empty table")
+    @Test
+    void givenNoEmployees_whenFindDuplicateNames_thenNoCountsAndNoRangeQueries(){
+        //given - precondition or setup
+        given(employeeRepository.findMinId()).willReturn(Optional.empty());
+        given(employeeRepository.findMaxId()).willReturn(Optional.empty());
+
+        //when - action or the behaviour that are going to be tested
+        EmployeeStats stats = statsService.findDuplicateNames(10);
+
+        //then - verify the output
+        assertThat(stats.counts()).isEmpty();
+        verify(employeeRepository, never()).findNamesInIdRange(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,61 @@
+package net.java.junit.springboot.service;
+
+import net.java.junit.springboot.dto.EmployeeImportResult;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willReturn;
+
+@SpringBootTest
+public class EmployeeTransferServiceIntegrationTests {
+
+    @Autowired
+    private EmployeeTransferService transferService;
+
+    @SpyBean
+    private EmployeeRepository employeeRepository;
+
+    //JUnit test for CSV import racing with another writer of the same email
+    @DisplayName("JUnit test for CSV import racing with another writer of the same email")
+    @Test
+    void givenEmailTakenAfterDuplicateCheck_whenImportEmployees_thenRowIsCountedAsDuplicate() throws Exception {
+        //given - precondition or setup
+        employeeRepository.saveAndFlush(Employee.builder()
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email("import-taken@gmail.com")
+                .build());
+        //The duplicate check misses the row, as if another writer inserted it right after the check
+        willReturn(List.of()).given(employeeRepository).findByEmailIn(any());
+        String csv = """
+                firstName,lastName,email
+                John,Cena,import-taken@gmail.com
+                Mohan,Sharma,import-new@gmail.com
+                """;
+
+        //when - action or the behaviour that are going to be tested
+        EmployeeImportResult result = transferService.importEmployees(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), EmployeeTransferService.Format.CSV);
+
+        //then - verify the output
+        assertThat(result.rows()).isEqualTo(2);
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.duplicates()).isEqualTo(1);
+        assertThat(result.errors()).extracting(EmployeeImportResult.RowError::line).containsExactly(2L);
+        assertThat(employeeRepository.findByEmail("import-new@gmail.com")).isPresent();
+        assertThat(employeeRepository.findByEmail("import-taken@gmail.com"))
+                .hasValueSatisfying(employee -> assertThat(employee.getFirstName()).isEqualTo("Ram"));
+
+    }
+}
@@ -0,0 +1,158 @@
+package net.java.junit.springboot.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.java.junit.springboot.dto.EmployeeBatchItemResult;
+import net.java.junit.springboot.dto.EmployeeImportResult;
+import net.java.junit.springboot.exception.ResourceNotFoundException;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.service.impl.EmployeeTransferServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeTransferServiceTests {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EmployeeTransferServiceImpl transferService;
+
+    @BeforeEach
+    void setUp(){
+        meterRegistry = new SimpleMeterRegistry();
+        transferService = new EmployeeTransferServiceImpl(employeeService, new ObjectMapper(), meterRegistry);
+    }
+
+    //JUnit test for CSV import
+    @DisplayName("JUnit test for CSV import")
+    @Test
+    void givenCsvRoster_whenImportEmployees_thenRowsAreSavedAndCounted() throws Exception {
+        //given - precondition or setup
+        List<Employee> saved = new ArrayList<>();
+        given(employeeService.saveAllEmployees(anyList())).willAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            saved.addAll(employees);
+            return List.of(EmployeeBatchItemResult.created(0, employees.get(0)),
+                    EmployeeBatchItemResult.duplicate(1, employees.get(1)));
+        });
+        String csv = "email,id,firstName,lastName\n"
+                + "ram@gmail.com,7,Ram,\"Kumar, Jr.\"\n"
+                + "ram@gmail.com,8,Ram,Kumar\n"
+                + "\n"
+                + "broken,\"Ram\n";
+
+        //when - action or the behaviour that are going to be tested
+        EmployeeImportResult result = transferService.importEmployees(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), EmployeeTransferService.Format.CSV);
+
+        //then - verify the output
+        assertThat(result.rows()).isEqualTo(3);
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.duplicates()).isEqualTo(1);
+        assertThat(result.invalid()).isEqualTo(1);
+        assertThat(result.errors()).extracting(EmployeeImportResult.RowError::line).containsExactly(5L, 3L);
+        assertThat(saved.get(0).getLastName()).isEqualTo("Kumar, Jr.");
+        assertThat(saved.get(0).getId()).isZero();
+        assertThat(meterRegistry.counter("employee.transfer.rows", "direction", "import").count()).isEqualTo(3);
+    }
+
+    //JUnit test for NDJSON import
+    @DisplayName("JUnit test for NDJSON import")
+    @Test
+    void givenNdjsonRoster_whenImportEmployees_thenEachLineIsAnEmployee() throws Exception {
+        //given - precondition or setup
+        given(employeeService.saveAllEmployees(anyList())).willAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            return List.of(EmployeeBatchItemResult.created(0, employees.get(0)));
+        });
+        String ndjson = "{\"firstName\":\"Ram\",\"lastName\":\"Kumar\",\"email\":\"ram@gmail.com\"}\n{not json}\nnull\n";
+
+        //when - action or the behaviour that are going to be tested
+        EmployeeImportResult result = transferService.importEmployees(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), EmployeeTransferService.Format.NDJSON);
+
+        //then - verify the output
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.invalid()).isEqualTo(2);
+        assertThat(result.errors()).extracting(EmployeeImportResult.RowError::line).containsExactly(2L, 3L);
+    }
+
+    //JUnit test for the row by row retry of a chunk rejected by the database
+    @DisplayName("JUnit test for the row by row retry of a chunk rejected by the database")
+    @Test
+    void givenChunkRejectedByDatabase_whenImportEmployees_thenEachRowIsRetriedAndCounted() throws Exception {
+        //given - precondition or setup
+        given(employeeService.saveAllEmployees(anyList())).willThrow(new DataIntegrityViolationException("unique email"));
+        given(employeeService.saveEmployee(any(Employee.class))).willAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            return switch (employee.getEmail()) {
+                case "taken@gmail.com" -> throw new ResourceNotFoundException("Employee already exist with given email:" + employee.getEmail());
+                case "long@gmail.com" -> throw new DataIntegrityViolationException("value too long");
+                default -> employee;
+            };
+        });
+        String csv = "firstName,lastName,email\n"
+                + "Ram,Kumar,ram@gmail.com\n"
+                + "Ram,Kumar,\n"
+                + "Ram,Kumar,taken@gmail.com\n"
+                + "Ram,Kumar,long@gmail.com\n";
+
+        //when - action or the behaviour that are going to be tested
+        EmployeeImportResult result = transferService.importEmployees(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), EmployeeTransferService.Format.CSV);
+
+        //then - verify the output
+        assertThat(result.rows()).isEqualTo(4);
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.duplicates()).isEqualTo(1);
+        assertThat(result.invalid()).isEqualTo(2);
+        assertThat(result.errors()).extracting(EmployeeImportResult.RowError::line).containsExactly(3L, 4L, 5L);
+        then(employeeService).should(times(3)).saveEmployee(any(Employee.class));
+    }
+
+    //JUnit test for CSV export
+    @DisplayName("JUnit test for CSV export")
+    @Test
+    void givenEmployees_whenExportEmployees_thenCsvIsQuotedWhereNeeded() throws Exception {
+        //given - precondition or setup
+        willAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            consumer.accept(Employee.builder().id(1L).firstName("Ram").lastName("Kumar, \"Jr.\"").email("ram@gmail.com").build());
+            consumer.accept(Employee.builder().id(2L).firstName("John").lastName("Cena").email("cena@gmail.com").build());
+            return null;
+        }).given(employeeService).streamAllEmployees(any());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when - action or the behaviour that are going to be tested
+        long rows = transferService.exportEmployees(outputStream, EmployeeTransferService.Format.CSV);
+
+        //then - verify the output
+        assertThat(rows).isEqualTo(2);
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("id,firstName,lastName,email\n"
+                + "1,Ram,\"Kumar, \"\"Jr.\"\"\",ram@gmail.com\n"
+                + "2,John,Cena,cena@gmail.com\n");
+    }
+}
@@ -0,0 +1,184 @@
+package net.java.junit.springboot.writebehind;
+
+import net.java.junit.springboot.dto.EmployeeBatchItemResult;
+import net.java.junit.springboot.dto.WriteTicket;
+import net.java.junit.springboot.exception.WriteBehindQueueFullException;
+import net.java.junit.springboot.model.Employee;
+import net.java.junit.springboot.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeWriteBehindTests {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeWriteBehind writeBehind;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp(){
+        writeBehind = new EmployeeWriteBehind(employeeService,
+                new WriteBehindProperties(true, 3, 50, Duration.ofMillis(10), true, Duration.ofSeconds(5), 100));
+        employee = Employee.builder()
+                .firstName("Ram")
+                .lastName("Kumar")
+                .email("ram@gmail.com")
+                .build();
+    }
+
+    //JUnit test for batched creates
+    @DisplayName("JUnit test for batched creates")
+    @Test
+    void givenQueuedCreates_whenFlushPending_thenCommittedInOneBatch(){
+        //given - precondition or setup
+        Employee employee1 = Employee.builder().firstName("John").lastName("Cena").email("ram@gmail.com").build();
+        given(employeeService.saveAllEmployees(anyList())).willAnswer(invocation -> {
+            employee.setId(7L);
+            return List.of(EmployeeBatchItemResult.created(0, employee), EmployeeBatchItemResult.duplicate(1, employee1));
+        });
+        WriteTicket ticket = writeBehind.submitCreate(employee);
+        WriteTicket ticket1 = writeBehind.submitCreate(employee1);
+
+        //when - action or the behaviour that are going to be tested
+        int flushed = writeBehind.flushPending();
+
+        //then - verify the output
+        assertThat(flushed).isEqualTo(2);
+        assertThat(ticket.status()).isEqualTo(WriteTicket.Status.QUEUED);
+        assertThat(writeBehind.getTicket(ticket.ticket())).contains(WriteTicket.committed(ticket.ticket(), 7L));
+        assertThat(writeBehind.getTicket(ticket1.ticket())).get()
+                .extracting(WriteTicket::status).isEqualTo(WriteTicket.Status.FAILED);
+        verify(employeeService, times(1)).saveAllEmployees(List.of(employee, employee1));
+    }
+
+    //JUnit test for coalescing updates to the same employee
+    @DisplayName("JUnit test for coalescing updates to the same employee")
+    @Test
+    void givenTwoUpdatesForOneEmployee_whenFlushPending_thenOnlyLastIsApplied(){
+        //given - precondition or setup
+        Employee changes = Employee.builder().firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build();
+        given(employeeService.updateAllEmployees(Map.of(1L, changes))).willReturn(Map.of(1L, changes));
+        WriteTicket ticket = writeBehind.submitUpdate(1L, employee);
+        WriteTicket ticket1 = writeBehind.submitUpdate(1L, changes);
+
+        //when - action or the behaviour that are going to be tested
+        writeBehind.flushPending();
+
+        //then - verify the output
+        assertThat(writeBehind.getTicket(ticket.ticket())).contains(WriteTicket.committed(ticket.ticket(), 1L));
+        assertThat(writeBehind.getTicket(ticket1.ticket())).contains(WriteTicket.committed(ticket1.ticket(), 1L));
+    }
+
+    //JUnit test for a failed batch retried one by one
+    @DisplayName("JUnit test for a failed batch retried one by one")
+    @Test
+    void givenBatchFailure_whenFlushPending_thenWritesAreRetriedOneByOne(){
+        //given - precondition or setup
+        Employee changes = Employee.builder().firstName("Ramesh").lastName("Kumar").email("ramesh@gmail.com").build();
+        given(employeeService.updateAllEmployees(any())).willThrow(new DataIntegrityViolationException("duplicate"));
+        given(employeeService.updateEmployee(1L, employee)).willReturn(Optional.of(employee));
+        given(employeeService.updateEmployee(2L, changes)).willThrow(new DataIntegrityViolationException("duplicate"));
+        WriteTicket ticket = writeBehind.submitUpdate(1L, employee);
+        WriteTicket ticket1 = writeBehind.submitUpdate(2L, changes);
+
+        //when - action or the behaviour that are going to be tested
+        writeBehind.flushPending();
+
+        //then - verify the output
+        assertThat(writeBehind.getTicket(ticket.ticket())).get()
+                .extracting(WriteTicket::status).isEqualTo(WriteTicket.Status.COMMITTED);
+        assertThat(writeBehind.getTicket(ticket1.ticket())).get()
+                .extracting(WriteTicket::status).isEqualTo(WriteTicket.Status.FAILED);
+    }
+
+    //JUnit test for backpressure on a full queue
+    @DisplayName("JUnit test for backpressure on a full queue")
+    @Test
+    void givenFullQueue_whenSubmit_thenThrowsException(){
+        //given - precondition or setup
+        writeBehind.submitCreate(employee);
+        writeBehind.submitCreate(employee);
+        writeBehind.submitCreate(employee);
+
+        //when - action or the behaviour that are going to be tested
+        org.junit.jupiter.api.Assertions.assertThrows(WriteBehindQueueFullException.class, () -> {
+            writeBehind.submitCreate(employee);
+        });
+
+        //then - verify the output
+        assertThat(writeBehind.status().queued()).isEqualTo(3);
+    }
+
+    //JUnit test for flush on shutdown
+    @DisplayName("JUnit test for flush on shutdown")
+    @Test
+    void givenQueuedWrites_whenStop_thenQueueIsDrained(){
+        //given - precondition or setup
+        given(employeeService.saveAllEmployees(anyList()))
+                .willReturn(List.of(EmployeeBatchItemResult.created(0, employee)));
+        writeBehind.start();
+        WriteTicket ticket = writeBehind.submitCreate(employee);
+
+        //when - action or the behaviour that are going to be tested
+        writeBehind.stop();
+
+        //then - verify the output
+        assertThat(writeBehind.isRunning()).isFalse();
+        assertThat(writeBehind.status().queued()).isZero();
+        assertThat(writeBehind.getTicket(ticket.ticket())).get()
+                .extracting(WriteTicket::status).isEqualTo(WriteTicket.Status.COMMITTED);
+    }
+
+    //JUnit test for a submit racing with stop
+    @DisplayName("JUnit test for a submit racing with stop")
+    @Test
+    void givenStopDuringSubmit_whenSubmit_thenWriteIsRejected(){
+        //given - precondition or setup
+        WriteBehindProperties properties = mock(WriteBehindProperties.class);
+        lenient().when(properties.batchSize()).thenReturn(50);
+        lenient().when(properties.maxLag()).thenReturn(Duration.ofMillis(10));
+        lenient().when(properties.flushOnShutdown()).thenReturn(true);
+        lenient().when(properties.shutdownTimeout()).thenReturn(Duration.ofSeconds(5));
+        lenient().when(properties.ticketRetention()).thenReturn(100);
+        EmployeeWriteBehind writeBehind = new EmployeeWriteBehind(employeeService, properties);
+        writeBehind.start();
+        //The capacity check runs after the shutdown check, so the queue stops and drains in between
+        given(properties.queueCapacity()).willAnswer(invocation -> {
+            writeBehind.stop();
+            return 100;
+        });
+
+        //when - action or the behaviour that are going to be tested
+        assertThatThrownBy(() -> writeBehind.submitCreate(employee))
+                .isInstanceOf(WriteBehindQueueFullException.class);
+
+        //then - verify the output
+        assertThat(writeBehind.isRunning()).isFalse();
+        assertThat(writeBehind.getTicket(1L)).isEmpty();
+        verifyNoInteractions(employeeService);
+    }
+}